@@ -1,11 +1,18 @@
 package concurrent;
 
+import functions.DoubleBiConsumer;
 import functions.Point;
+import functions.PointCursor;
 import functions.TabulatedFunction;
 import operations.TabulatedFunctionOperationService;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.stream.DoubleStream;
+// Каждый метод выполняется под общей блокировкой. Курсор и итератор живут дольше блокировки, поэтому
+// cursor() копирует всю таблицу при каждом вызове (O(n) времени и памяти); полный обход без копирования -
+// forEachPoint, который держит блокировку на время всего прохода.
 public class SynchronizedTabulatedFunction implements TabulatedFunction {
     private final TabulatedFunction function;
     private final Object lock;
@@ -68,6 +75,68 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction {
         return function.apply(x);
     }
 
+    @Override
+    public synchronized void apply(double[] xValues, int xFrom, double[] results, int resultsFrom, int length) {
+        function.apply(xValues, xFrom, results, resultsFrom, length);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) { // весь обход под одной блокировкой, без копирования
+        synchronized (lock) {
+            function.forEachPoint(action);
+        }
+    }
+
+    @Override
+    public PointCursor cursor() {
+        synchronized (lock) { // курсор живёт дольше блокировки, поэтому обходит снимок
+            int count = function.getCount();
+            double[] xValues = new double[count];
+            double[] yValues = new double[count];
+            PointCursor source = function.cursor();
+            for (int i = 0; source.advance(); i++) {
+                xValues[i] = source.x();
+                yValues[i] = source.y();
+            }
+            return new PointCursor() {
+                private int index = -1;
+
+                @Override
+                public boolean advance() {
+                    if (index + 1 >= count) {
+                        return false;
+                    }
+                    index++;
+                    return true;
+                }
+
+                @Override
+                public double x() {
+                    return xValues[index];
+                }
+
+                @Override
+                public double y() {
+                    return yValues[index];
+                }
+            };
+        }
+    }
+
+    @Override
+    public DoubleStream xs() { // поток по снимку, сделанному под блокировкой
+        synchronized (lock) {
+            return Arrays.stream(function.xs().toArray());
+        }
+    }
+
+    @Override
+    public DoubleStream ys() {
+        synchronized (lock) {
+            return Arrays.stream(function.ys().toArray());
+        }
+    }
+
     @Override
     public Iterator<Point> iterator() {
         synchronized (lock) {
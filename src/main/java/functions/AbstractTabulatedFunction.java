@@ -16,6 +16,9 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
     protected abstract double interpolate(double x, int floorIndex);
 
     protected double interpolate(double x, double leftX, double rightX, double leftY, double rightY) {
+        return linearInterpolation(x, leftX, rightX, leftY, rightY);
+    }
+    public static double linearInterpolation(double x, double leftX, double rightX, double leftY, double rightY) {
         return leftY + (rightY - leftY) * (x - leftX) / (rightX - leftX);
     }
     public static void checkLengthIsTheSame(double[] xValues, double[] yValues) {
@@ -25,7 +28,10 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
         }
     }
     public static void checkSorted(double[] xValues) {
-        for (int i = 1; i < xValues.length; i++) {
+        checkSorted(xValues, xValues.length);
+    }
+    public static void checkSorted(double[] xValues, int count) { // проверяются только первые count элементов
+        for (int i = 1; i < count; i++) {
             if (xValues[i] <= xValues[i - 1]) {
                 logger.error("Array not sorted at index {}: {} <= {}", i, xValues[i], xValues[i-1]);
                 throw new ArrayIsNotSortedException("The xValues array is not sorted in ascending order");
@@ -40,12 +46,138 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
         } else if (x > rightBound()) {
             return extrapolateRight(x);
         } else {
-            int index = indexOfX(x);
-            if (index != -1) {
-                return getY(index);
+            // один поиск даёт и точное совпадение, и левую границу интервала
+            int floorIndex = floorIndexOfX(x);
+            if (floorIndex >= 0 && Math.abs(getX(floorIndex) - x) < 1e-12) {
+                return getY(floorIndex);
+            }
+            if (floorIndex >= 0 && floorIndex < getCount() - 1 && Math.abs(getX(floorIndex + 1) - x) < 1e-12) {
+                return getY(floorIndex + 1);
+            }
+            return interpolate(x, floorIndex);
+        }
+    }
+
+    public static boolean isUniform(double[] xValues, double step) { // x(i) в точности равны x(0) + i * step
+        return isUniform(xValues, xValues.length, step);
+    }
+    public static boolean isUniform(double[] xValues, int count, double step) {
+        if (!(step > 0)) {
+            return false;
+        }
+        for (int i = 1; i < count; i++) {
+            if (xValues[i] != xValues[0] + i * step) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected static int uniformFloorIndexOfX(double x, double xFrom, double step, int count) {
+        // индекс вычисляется арифметически и уточняется на случай ошибок округления
+        int index = (int) Math.max(0, Math.min(count - 1, (x - xFrom) / step));
+        while (index < count - 1 && xFrom + (index + 1) * step <= x) {
+            index++;
+        }
+        while (index > 0 && xFrom + index * step > x) {
+            index--;
+        }
+        if (index < count - 1 && Math.abs(xFrom + (index + 1) * step - x) < 1e-12) {
+            return index + 1;
+        }
+        return index;
+    }
+
+    protected static int uniformIndexOfX(double x, double xFrom, double step, int count) {
+        long nearest = Math.round((x - xFrom) / step);
+        for (long i = Math.max(0, nearest - 1); i <= Math.min(count - 1, nearest + 1); i++) {
+            if (Math.abs(xFrom + (int) i * step - x) < 1e-12) {
+                return (int) i;
+            }
+        }
+        return -1;
+    }
+
+    protected static int[] sortedOrder(double[] keys) { // устойчивая сортировка индексов по ключам без упаковки в объекты
+        int n = keys.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        if (isSorted(keys, 0, n)) {
+            return order;
+        }
+        int[] buffer = new int[n];
+        for (int width = 1; width < n; width *= 2) { // восходящая сортировка слиянием
+            for (int left = 0; left < n - width; left += 2 * width) {
+                int mid = left + width;
+                int right = (int) Math.min(n, left + 2L * width);
+                int i = left;
+                int j = mid;
+                for (int k = left; k < right; k++) {
+                    if (j >= right || (i < mid && Double.compare(keys[order[j]], keys[order[i]]) >= 0)) {
+                        buffer[k] = order[i++];
+                    } else {
+                        buffer[k] = order[j++];
+                    }
+                }
+                System.arraycopy(buffer, left, order, left, right - left);
+            }
+        }
+        return order;
+    }
+
+    public static void checkBatchRange(double[] xValues, int xFrom, double[] results, int resultsFrom, int length) {
+        if (length < 0 || xFrom < 0 || resultsFrom < 0
+                || xFrom > xValues.length - length || resultsFrom > results.length - length) {
+            logger.error("Invalid batch range: xFrom={}, resultsFrom={}, length={} (xValues={}, results={})",
+                    xFrom, resultsFrom, length, xValues.length, results.length);
+            throw new IllegalArgumentException("Batch range is out of array bounds");
+        }
+    }
+
+    public static boolean isSorted(double[] xValues, int from, int length) { // NaN считается нарушением порядка
+        for (int i = from; i < from + length; i++) {
+            if (Double.isNaN(xValues[i]) || (i > from && xValues[i] < xValues[i - 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void apply(double[] xValues, int xFrom, double[] results, int resultsFrom, int length) {
+        checkBatchRange(xValues, xFrom, results, resultsFrom, length);
+        if (!isSorted(xValues, xFrom, length)) {
+            for (int i = 0; i < length; i++) {
+                results[resultsFrom + i] = apply(xValues[xFrom + i]);
+            }
+            return;
+        }
+        // запросы отсортированы - идём по таблице и по запросам одним проходом
+        int count = getCount();
+        double left = leftBound();
+        double right = rightBound();
+        int floor = 0;
+        for (int i = 0; i < length; i++) {
+            double x = xValues[xFrom + i];
+            if (x < left) {
+                results[resultsFrom + i] = extrapolateLeft(x);
+            } else if (x > right) {
+                results[resultsFrom + i] = extrapolateRight(x);
             } else {
-                int floorIndex = floorIndexOfX(x);
-                return interpolate(x, floorIndex);
+                while (floor < count - 2 && getX(floor + 1) < x) {
+                    floor++;
+                }
+                double leftX = getX(floor);
+                double rightX = getX(floor + 1);
+                if (Math.abs(leftX - x) < 1e-12) {
+                    results[resultsFrom + i] = getY(floor);
+                } else if (Math.abs(rightX - x) < 1e-12) {
+                    results[resultsFrom + i] = getY(floor + 1);
+                } else {
+                    results[resultsFrom + i] = interpolate(x, leftX, rightX, getY(floor), getY(floor + 1));
+                }
             }
         }
     }
@@ -54,8 +186,9 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append(getClass().getSimpleName()).append(" size = ").append(getCount());
-        for (Point point : this) {
-            sb.append("\n[").append(point.x).append("; ").append(point.y).append("]");
+        PointCursor cursor = cursor();
+        while (cursor.advance()) {
+            sb.append("\n[").append(cursor.x()).append("; ").append(cursor.y()).append("]");
         }
         return sb.toString();
     }
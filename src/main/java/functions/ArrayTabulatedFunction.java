@@ -4,6 +4,15 @@ import java.util.Arrays;
 import exceptions.InterpolationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoublePredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,9 +20,14 @@ import org.slf4j.LoggerFactory;
 public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements Serializable, Insertable, Removable {
     private static final Logger logger = LoggerFactory.getLogger(ArrayTabulatedFunction.class);
     private static final long serialVersionUID = -2387528817071738458L;
-    private double[] xArray;
-    private double[] yArray;
+    private static final int BATCH_CHUNK = 1024; // размер блока запросов в пакетном apply
+    private transient double[] xArray; // null, если равномерная сетка хранится только началом и шагом
+    private transient double[] yArray; // массивы пишутся в writeObject без запаса ёмкости
     private int count;
+    private boolean uniform;
+    private double gridFrom;
+    private double gridStep;
+    private transient InterpolationEngine engine; // null - движок по умолчанию из InterpolationEngines
 
     public ArrayTabulatedFunction(double[] xArray, double[] yArray) {
         if (xArray.length != yArray.length) {
@@ -31,8 +45,77 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         this.count = xArray.length;
         this.xArray = Arrays.copyOf(xArray, count);
         this.yArray = Arrays.copyOf(yArray, count);
+        detectUniformGrid();
         logger.info("ArrayTabulatedFunction created with {} points", count);
     }
+    private ArrayTabulatedFunction(double[] xArray, double[] yArray, int count) { // массивы принимаются без копирования
+        this.count = count;
+        this.xArray = xArray;
+        this.yArray = yArray;
+        detectUniformGrid();
+        logger.info("ArrayTabulatedFunction adopted {} points without copying", count);
+    }
+    // Передача владения: массивы становятся хранилищем функции, вызывающий больше не должен их изменять.
+    // validate = false пропускает проход проверки сортировки для заведомо корректных данных (сетки, результаты операций)
+    public static ArrayTabulatedFunction wrap(double[] xArray, double[] yArray, boolean validate) {
+        return wrap(xArray, yArray, xArray.length, validate);
+    }
+    // Используются первые count элементов, хвост массивов остаётся запасом ёмкости
+    public static ArrayTabulatedFunction wrap(double[] xArray, double[] yArray, int count, boolean validate) {
+        if (count < 2) {
+            logger.error("Insufficient points: {}", count);
+            throw new IllegalArgumentException("The table should be at least 2 points long");
+        }
+        checkLengthIsTheSame(xArray, yArray);
+        if (count > xArray.length) {
+            logger.error("Point count {} exceeds array length {}", count, xArray.length);
+            throw new IllegalArgumentException("Count exceeds array length");
+        }
+        if (validate) {
+            checkSorted(xArray, count);
+        }
+        return new ArrayTabulatedFunction(xArray, yArray, count);
+    }
+    private void detectUniformGrid() {
+        double step = (xArray[count - 1] - xArray[0]) / (count - 1);
+        if (isUniform(xArray, count, step)) {
+            this.uniform = true;
+            this.gridFrom = xArray[0];
+            this.gridStep = step;
+        }
+    }
+    // Формат: поля по умолчанию (count и параметры сетки), признак хранимых x, затем count значений x (если есть)
+    // и count значений y. Запас ёмкости не пишется, компактная равномерная сетка остаётся компактной.
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeBoolean(xArray != null);
+        if (xArray != null) {
+            for (int i = 0; i < count; i++) {
+                out.writeDouble(xArray[i]);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeDouble(yArray[i]);
+        }
+    }
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        boolean hasX = in.readBoolean();
+        if (count < 2 || (!hasX && !uniform)) {
+            logger.error("Corrupted serialized array function: count={}, storedX={}, uniform={}", count, hasX, uniform);
+            throw new InvalidObjectException("Corrupted tabulated function: count=" + count);
+        }
+        if (hasX) {
+            xArray = new double[count];
+            for (int i = 0; i < count; i++) {
+                xArray[i] = in.readDouble();
+            }
+        }
+        yArray = new double[count];
+        for (int i = 0; i < count; i++) {
+            yArray[i] = in.readDouble();
+        }
+    }
     public ArrayTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) {
         if (count < 2) {
             logger.error("Insufficient points requested: {}", count);
@@ -60,6 +143,9 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
                 xArray[i] = xFrom + i * step;
                 yArray[i] = source.apply(xArray[i]);
             }
+            this.uniform = step > 0;
+            this.gridFrom = xFrom;
+            this.gridStep = step;
         }
     }
     @Override
@@ -72,7 +158,29 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             logger.error("GetX index out of bounds: {} (count={})", index, count);
             throw new IllegalArgumentException("Index out of bounds: " + index);
         }
-        return xArray[index];
+        return xAt(index);
+    }
+    private double xAt(int index) {
+        return xArray != null ? xArray[index] : gridFrom + index * gridStep;
+    }
+    public boolean isUniform() {
+        return uniform;
+    }
+    public boolean compactUniformGrid() { // отказ от массива x: сетка восстанавливается по началу и шагу
+        if (!uniform) {
+            return false;
+        }
+        xArray = null;
+        logger.debug("Uniform grid of {} points compacted to start={} step={}", count, gridFrom, gridStep);
+        return true;
+    }
+    private void materializeXArray() {
+        if (xArray == null) {
+            xArray = new double[yArray.length];
+            for (int i = 0; i < count; i++) {
+                xArray[i] = gridFrom + i * gridStep;
+            }
+        }
     }
     @Override
     public double getY(int index) {
@@ -92,10 +200,20 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
     }
     @Override
     public int indexOfX(double x) {
-        for (int i = 0; i < count; i++) {
-            if (Math.abs(getX(i) - x) < 1e-12) {
-                return i;
-            }
+        if (uniform) {
+            return uniformIndexOfX(x, gridFrom, gridStep, count);
+        }
+        //массив x отсортирован: бинарный поиск, затем проверка соседей с точностью 1e-12
+        int index = insertionIndexOf(x);
+        int found = -1;
+        for (int i = index - 1; i >= 0 && Math.abs(xAt(i) - x) < 1e-12; i--) {
+            found = i; //самый левый из совпадающих, как при линейном поиске
+        }
+        if (found != -1) {
+            return found;
+        }
+        if (index < count && Math.abs(xAt(index) - x) < 1e-12) {
+            return index;
         }
         return -1;
     }
@@ -123,12 +241,15 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             throw new IllegalArgumentException("x is less than left bound: " + x);
         }
         if (x > getX(count - 1))return count;
+        if (uniform) {
+            return uniformFloorIndexOfX(x, gridFrom, gridStep, count);
+        }
         //бинарный поиск интервала
         int left = 0;
         int right = count - 1;
         while (left <= right) {
             int mid = left + (right - left) / 2; //находим средний индекс
-            double midX = getX(mid);
+            double midX = xAt(mid);
             if (Math.abs(midX - x) < 1e-12) {
                 return mid;
             } else if (midX < x) {
@@ -164,35 +285,272 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         // вызов метода интерполяции с четырьмя параметрами
         return interpolate(x, leftX, rightX, getY(floorIndex), getY(floorIndex + 1));
     }
+    public InterpolationEngine getInterpolationEngine() {
+        return engine != null ? engine : InterpolationEngines.defaultEngine();
+    }
+    public void setInterpolationEngine(InterpolationEngine engine) { // null - движок по умолчанию
+        this.engine = engine;
+    }
     @Override
-    public void insert(double x, double y) {
-        for (int i = 0; i < count; i++) { //поиск х
-            if (Math.abs (xArray[i] - x) < 1e-12) {
-                yArray[i] = y; //замена значения
-                return;
+    public void apply(double[] xValues, int xFrom, double[] results, int resultsFrom, int length) {
+        checkBatchRange(xValues, xFrom, results, resultsFrom, length);
+        boolean sorted = isSorted(xValues, xFrom, length);
+        if (xArray == null) { // компактной сетке нечего собирать из памяти - считаем поточечно
+            applyCompact(xValues, xFrom, results, resultsFrom, length, sorted);
+            return;
+        }
+        InterpolationEngine engine = getInterpolationEngine();
+        int[] floors = new int[Math.min(length, BATCH_CHUNK)];
+        int floor = 0;
+        // сначала находим интервалы для блока запросов, затем движок вычисляет значения всего блока
+        for (int chunk = 0; chunk < length; chunk += floors.length) {
+            int chunkLength = Math.min(floors.length, length - chunk);
+            boolean hasNaN = false;
+            for (int i = 0; i < chunkLength; i++) {
+                double x = xValues[xFrom + chunk + i];
+                if (x < xArray[0]) {
+                    floors[i] = 0;
+                } else if (x > xArray[count - 1]) {
+                    floors[i] = count - 2;
+                } else if (Double.isNaN(x)) {
+                    floors[i] = 0;
+                    hasNaN = true;
+                } else if (!sorted) {
+                    floors[i] = intervalIndexOf(x);
+                } else {
+                    // запросы отсортированы - левая граница интервала только растёт
+                    while (floor < count - 2 && xArray[floor + 1] < x) {
+                        floor++;
+                    }
+                    floors[i] = floor;
+                }
+            }
+            engine.interpolate(this, xArray, yArray, floors, xValues, xFrom + chunk, results, resultsFrom + chunk, chunkLength);
+            for (int i = 0; hasNaN && i < chunkLength; i++) {
+                if (Double.isNaN(xValues[xFrom + chunk + i])) {
+                    results[resultsFrom + chunk + i] = apply(xValues[xFrom + chunk + i]);
+                }
             }
         }
-        int insertIndex = 0; //поиск позиции для вставки
-        while (insertIndex < count && xArray[insertIndex] < x) {
-            insertIndex++;
+    }
+    private void applyCompact(double[] xValues, int xFrom, double[] results, int resultsFrom, int length, boolean sorted) {
+        int floor = 0;
+        for (int i = 0; i < length; i++) {
+            double x = xValues[xFrom + i];
+            if (x < xAt(0)) {
+                results[resultsFrom + i] = interpolate(x, xAt(0), xAt(1), yArray[0], yArray[1]);
+            } else if (x > xAt(count - 1)) {
+                results[resultsFrom + i] = interpolate(x, xAt(count - 2), xAt(count - 1), yArray[count - 2], yArray[count - 1]);
+            } else if (Double.isNaN(x)) {
+                results[resultsFrom + i] = apply(x);
+            } else if (!sorted) {
+                results[resultsFrom + i] = valueInInterval(x, intervalIndexOf(x));
+            } else {
+                while (floor < count - 2 && xAt(floor + 1) < x) {
+                    floor++;
+                }
+                results[resultsFrom + i] = valueInInterval(x, floor);
+            }
         }
-        double[] newXValues = new double[count + 1]; //создание увеличенных массивов
-        double[] newYValues = new double[count + 1];
-
-        System.arraycopy(xArray, 0, newXValues, 0, insertIndex); //копирование эл-тов до позиции вставки
-        System.arraycopy(yArray, 0, newYValues, 0, insertIndex);
-
-        newXValues[insertIndex] = x; //вСтавка нового элемента
-        newYValues[insertIndex] = y;
-
-        System.arraycopy(xArray, insertIndex, newXValues, insertIndex + 1, count - insertIndex); //копирование эл-тов после позиции вставки
-        System.arraycopy(yArray, insertIndex, newYValues, insertIndex + 1, count - insertIndex);
-
-        xArray = newXValues; //замена старых массивов
-        yArray = newYValues;
+    }
+    private int intervalIndexOf(double x) { //бинарный поиск последнего x(i) < x среди левых границ интервалов
+        if (uniform) {
+            return Math.min(uniformFloorIndexOfX(x, gridFrom, gridStep, count), count - 2);
+        }
+        int left = 0;
+        int right = count - 2;
+        while (left < right) {
+            int mid = (left + right + 1) >>> 1;
+            if (xArray[mid] < x) {
+                left = mid;
+            } else {
+                right = mid - 1;
+            }
+        }
+        return left;
+    }
+    private double valueInInterval(double x, int floor) { // значение в [x(floor); x(floor + 1)] без проверок индексов
+        double leftX = xAt(floor);
+        double rightX = xAt(floor + 1);
+        if (Math.abs(leftX - x) < 1e-12) {
+            return yArray[floor];
+        }
+        if (Math.abs(rightX - x) < 1e-12) {
+            return yArray[floor + 1];
+        }
+        return interpolate(x, leftX, rightX, yArray[floor], yArray[floor + 1]);
+    }
+    @Override
+    public void insert(double x, double y) {
+        int insertIndex = insertionIndexOf(x); //поиск позиции для вставки
+        if (insertIndex > 0 && Math.abs(xAt(insertIndex - 1) - x) < 1e-12) {
+            yArray[insertIndex - 1] = y; //замена значения
+            return;
+        }
+        if (insertIndex < count && Math.abs(xAt(insertIndex) - x) < 1e-12) {
+            yArray[insertIndex] = y;
+            return;
+        }
+        if (uniform && !(insertIndex == count && x == gridFrom + count * gridStep)) {
+            materializeXArray();
+            uniform = false; //сетка больше не равномерная
+            logger.debug("Uniform grid mode disabled by insert at x={}", x);
+        }
+        ensureCapacity(count + 1);
+        if (xArray != null) { //сдвиг хвоста вправо на месте
+            System.arraycopy(xArray, insertIndex, xArray, insertIndex + 1, count - insertIndex);
+            xArray[insertIndex] = x;
+        }
+        System.arraycopy(yArray, insertIndex, yArray, insertIndex + 1, count - insertIndex);
+        yArray[insertIndex] = y;
         count++;
     }
     @Override
+    public void insertAll(double[] xValues, double[] yValues) {
+        checkLengthIsTheSame(xValues, yValues);
+        if (xValues.length == 0) {
+            return;
+        }
+        int[] order = sortedOrder(xValues); //пачка сортируется один раз, затем - одно слияние с таблицей
+        boolean compact = xArray == null;
+        materializeXArray();
+        double[] newXArray = new double[count + xValues.length];
+        double[] newYArray = new double[count + xValues.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        boolean lastExisting = false;
+        while (i < count || j < order.length) {
+            boolean existing = j >= order.length || (i < count && xArray[i] <= xValues[order[j]]);
+            double x = existing ? xArray[i] : xValues[order[j]];
+            double y = existing ? yArray[i++] : yValues[order[j++]];
+            if (size > 0 && Math.abs(newXArray[size - 1] - x) < 1e-12 && !(existing && lastExisting)) {
+                //совпадение с точностью 1e-12: остаётся x существующей точки и y последней вставленной
+                if (existing) {
+                    newXArray[size - 1] = x;
+                    lastExisting = true;
+                } else {
+                    newYArray[size - 1] = y;
+                }
+            } else {
+                newXArray[size] = x;
+                newYArray[size] = y;
+                size++;
+                lastExisting = existing;
+            }
+        }
+        xArray = newXArray;
+        yArray = newYArray;
+        count = size;
+        if (uniform) {
+            for (int k = 0; k < count; k++) {
+                if (xArray[k] != gridFrom + k * gridStep) {
+                    uniform = false;
+                    logger.debug("Uniform grid mode disabled by batch insert of {} points", xValues.length);
+                    break;
+                }
+            }
+            if (uniform && compact) {
+                xArray = null;
+            }
+        }
+    }
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            logger.error("Remove range out of bounds: [{}, {}) (count={})", fromIndex, toIndex, count);
+            throw new IllegalArgumentException("Index range out of bounds: [" + fromIndex + ", " + toIndex + ")");
+        }
+        if (count - (toIndex - fromIndex) < 2) {
+            logger.error("Cannot remove {} points - minimum 2 points required", toIndex - fromIndex);
+            throw new IllegalStateException("Cannot remove elements - minimum 2 points required");
+        }
+        if (fromIndex == toIndex) {
+            return; // пустой диапазон не меняет таблицу и не должен выключать режим равномерной сетки
+        }
+        if (uniform && toIndex != count) {
+            materializeXArray();
+            uniform = false;
+            logger.debug("Uniform grid mode disabled by remove of range [{}, {})", fromIndex, toIndex);
+        }
+        if (xArray != null) {
+            System.arraycopy(xArray, toIndex, xArray, fromIndex, count - toIndex);
+        }
+        System.arraycopy(yArray, toIndex, yArray, fromIndex, count - toIndex);
+        count -= toIndex - fromIndex;
+    }
+    @Override
+    public boolean removeIf(DoublePredicate onX) {
+        boolean[] removed = new boolean[count];
+        int removedCount = 0;
+        int firstRemoved = count;
+        for (int i = 0; i < count; i++) {
+            if (onX.test(xAt(i))) {
+                removed[i] = true;
+                removedCount++;
+                firstRemoved = Math.min(firstRemoved, i);
+            }
+        }
+        if (removedCount == 0) {
+            return false;
+        }
+        if (count - removedCount < 2) {
+            logger.error("Cannot remove {} points - minimum 2 points required", removedCount);
+            throw new IllegalStateException("Cannot remove elements - minimum 2 points required");
+        }
+        if (uniform && firstRemoved < count - removedCount) {
+            materializeXArray();
+            uniform = false;
+            logger.debug("Uniform grid mode disabled by removeIf ({} points)", removedCount);
+        }
+        int size = 0; //уплотнение за один проход
+        for (int i = 0; i < count; i++) {
+            if (!removed[i]) {
+                if (xArray != null) {
+                    xArray[size] = xArray[i];
+                }
+                yArray[size] = yArray[i];
+                size++;
+            }
+        }
+        count = size;
+        return true;
+    }
+    private int insertionIndexOf(double x) { //бинарный поиск первого x(i) >= x
+        int left = 0;
+        int right = count;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (xAt(mid) < x) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+    public int getCapacity() {
+        return yArray.length;
+    }
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > yArray.length) {
+            //геометрический рост - вставки в конец обходятся в амортизированное O(1)
+            int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(minCapacity, yArray.length + (yArray.length >> 1) + 1L));
+            yArray = Arrays.copyOf(yArray, newCapacity);
+            if (xArray != null) {
+                xArray = Arrays.copyOf(xArray, newCapacity);
+            }
+        }
+    }
+    public void trimToSize() { //освобождение неиспользуемого запаса ёмкости
+        if (yArray.length > count) {
+            yArray = Arrays.copyOf(yArray, count);
+            if (xArray != null) {
+                xArray = Arrays.copyOf(xArray, count);
+            }
+        }
+    }
+    @Override
     public void remove(int index) {
         if (index < 0 || index >= count) {
             logger.error("Remove index out of bounds: {} (count={})", index, count);
@@ -202,20 +560,97 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             logger.error("Cannot remove point - minimum 2 points required");
             throw new IllegalStateException("Cannot remove element - minimum 2 points required");
         }
-        //новые массивы уменьшенного размера
-        double[] newXArray = new double[count - 1];
-        double[] newYArray = new double[count - 1];
+        if (uniform && index != count - 1) {
+            materializeXArray();
+            uniform = false; //удаление не последней точки нарушает равномерность
+            logger.debug("Uniform grid mode disabled by remove at index {}", index);
+        }
+        //сдвиг правой части влево на месте
+        if (xArray != null) {
+            System.arraycopy(xArray, index + 1, xArray, index, count - index - 1);
+        }
+        System.arraycopy(yArray, index + 1, yArray, index, count - index - 1);
+        this.count--;
+    }
+    @Override
+    public PointCursor cursor() { //обход напрямую по массивам, без создания Point
+        return new PointCursor() {
+            private int i = -1;
 
-        //копирует левую часть до удаляемого элемента
-        System.arraycopy(xArray, 0, newXArray, 0, index);
-        System.arraycopy(yArray, 0, newYArray, 0, index);
+            @Override
+            public boolean advance() {
+                if (i + 1 >= count) {
+                    return false;
+                }
+                i++;
+                return true;
+            }
 
-        //копирует правую часть до удаляемого элемента
-        System.arraycopy(xArray, index + 1, newXArray, index, count - index - 1);
-        System.arraycopy(yArray, index + 1, newYArray, index, count - index - 1);
-        this.xArray = newXArray; //заменяет старые массивы на новые
-        this.yArray = newYArray;
-        this.count--;
+            @Override
+            public double x() {
+                return xAt(i);
+            }
+
+            @Override
+            public double y() {
+                return yArray[i];
+            }
+        };
+    }
+    @Override
+    public Spliterator<Point> spliterator() {
+        return new PointSpliterator(0, count);
+    }
+    @Override
+    public DoubleStream xs() {
+        if (xArray == null) {
+            return IntStream.range(0, count).mapToDouble(this::xAt);
+        }
+        return Arrays.stream(xArray, 0, count);
+    }
+    @Override
+    public DoubleStream ys() {
+        return Arrays.stream(yArray, 0, count);
+    }
+    private final class PointSpliterator implements Spliterator<Point> { //делится пополам по диапазону индексов
+        private int index;
+        private final int fence;
+
+        private PointSpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Point> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(new Point(xAt(index), yArray[index]));
+            index++;
+            return true;
+        }
+
+        @Override
+        public Spliterator<Point> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            PointSpliterator prefix = new PointSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
     }
     @Override
     public Iterator<Point> iterator() {
@@ -233,7 +668,7 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
                     logger.warn("Iterator next() called with no more elements");
                     throw new NoSuchElementException();
                 }
-                Point point = new Point(xArray[i], yArray[i]);
+                Point point = new Point(xAt(i), yArray[i]);
                 i++;
                 return point;
             }
@@ -0,0 +1,92 @@
+package functions;
+
+// Результат пакетного поиска корней: корень, статус и число итераций для каждой начальной точки и сводные счётчики
+public class BatchRootSolution {
+    private final double[] roots;
+    private final RootStatus[] statuses;
+    private final int[] iterations;
+    private final long evaluations;
+    private final long elapsedNanos;
+    private int convergedCount;
+    private int bracketedCount;
+    private int failedCount;
+    private long totalIterations;
+    private int maxIterations;
+
+    BatchRootSolution(double[] roots, RootStatus[] statuses, int[] iterations, long evaluations, long elapsedNanos) {
+        this.roots = roots;
+        this.statuses = statuses;
+        this.iterations = iterations;
+        this.evaluations = evaluations;
+        this.elapsedNanos = elapsedNanos;
+        for (int i = 0; i < roots.length; i++) {
+            switch (statuses[i]) {
+                case CONVERGED -> convergedCount++;
+                case BRACKETED -> bracketedCount++;
+                case FAILED -> failedCount++;
+            }
+            totalIterations += iterations[i];
+            maxIterations = Math.max(maxIterations, iterations[i]);
+        }
+    }
+
+    public int getCount() {
+        return roots.length;
+    }
+
+    public double getRoot(int index) {
+        return roots[index];
+    }
+
+    public RootStatus getStatus(int index) {
+        return statuses[index];
+    }
+
+    public int getIterations(int index) { // итерации Ньютона плюс шаги поиска и деления отрезка
+        return iterations[index];
+    }
+
+    public double[] getRoots() {
+        return roots.clone();
+    }
+
+    public int getConvergedCount() {
+        return convergedCount;
+    }
+
+    public int getBracketedCount() {
+        return bracketedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public long getTotalIterations() {
+        return totalIterations;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public double getMeanIterations() {
+        return roots.length == 0 ? 0 : (double) totalIterations / roots.length;
+    }
+
+    public long getEvaluations() { // вызовы f и df вместе
+        return evaluations;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRootSolution points = " + roots.length + ", converged = " + convergedCount
+                + ", bracketed = " + bracketedCount + ", failed = " + failedCount
+                + ", mean iterations = " + getMeanIterations() + ", max iterations = " + maxIterations
+                + ", evaluations = " + evaluations + ", elapsed = " + elapsedNanos / 1_000_000 + " ms";
+    }
+}
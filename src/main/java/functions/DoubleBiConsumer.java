@@ -0,0 +1,5 @@
+package functions;
+
+public interface DoubleBiConsumer {
+    void accept(double x, double y);
+}
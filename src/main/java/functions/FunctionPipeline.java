@@ -0,0 +1,121 @@
+package functions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Цепочка CompositeFunction любой глубины, развёрнутая в плоский массив стадий: один цикл вместо вложенных вызовов.
+// Тождественные стадии выбрасываются; начиная с последней константы результат не зависит от x и вычисляется сразу.
+public final class FunctionPipeline implements MathFunction {
+    private static final Logger logger = LoggerFactory.getLogger(FunctionPipeline.class);
+
+    private final MathFunction[] stages;
+    private final boolean constant;
+    private final double constantValue;
+
+    private FunctionPipeline(MathFunction[] stages, boolean constant, double constantValue) {
+        this.stages = stages;
+        this.constant = constant;
+        this.constantValue = constantValue;
+    }
+
+    public static FunctionPipeline of(MathFunction function) {
+        if (function == null) {
+            logger.error("Cannot build pipeline from null function");
+            throw new IllegalArgumentException("Function is null");
+        }
+        List<MathFunction> flat = new ArrayList<>();
+        Deque<MathFunction> pending = new ArrayDeque<>(); // обход без рекурсии: andThen даёт глубокую левую вложенность
+        pending.push(function);
+        while (!pending.isEmpty()) {
+            MathFunction current = pending.pop();
+            if (current.getClass() == CompositeFunction.class) { // подкласс с переопределённым apply остаётся одной стадией
+                CompositeFunction composite = (CompositeFunction) current;
+                pending.push(composite.getSecondFunction());
+                pending.push(composite.getFirstFunction());
+            } else if (current instanceof FunctionPipeline pipeline) {
+                if (pipeline.constant) {
+                    flat.add(new ConstantFunction(pipeline.constantValue));
+                } else {
+                    flat.addAll(Arrays.asList(pipeline.stages));
+                }
+            } else if (current.getClass() != IdentityFunction.class) {
+                flat.add(current);
+            }
+        }
+        int lastConstant = -1;
+        for (int i = 0; i < flat.size(); i++) {
+            if (isConstant(flat.get(i))) {
+                lastConstant = i;
+            }
+        }
+        if (lastConstant >= 0) { // стадии до константы не влияют на результат, после - вычисляются один раз
+            double value = ((ConstantFunction) flat.get(lastConstant)).getConstant();
+            for (int i = lastConstant + 1; i < flat.size(); i++) {
+                value = flat.get(i).apply(value);
+            }
+            logger.debug("Pipeline of {} stages folded to constant {}", flat.size(), value);
+            return new FunctionPipeline(new MathFunction[0], true, value);
+        }
+        logger.debug("Pipeline flattened to {} stages", flat.size());
+        return new FunctionPipeline(flat.toArray(new MathFunction[0]), false, 0);
+    }
+
+    private static boolean isConstant(MathFunction function) { // подклассы с переопределённым apply не сворачиваются
+        Class<?> type = function.getClass();
+        return type == ConstantFunction.class || type == ZeroFunction.class || type == UnitFunction.class;
+    }
+
+    @Override
+    public double apply(double x) {
+        if (constant) {
+            return constantValue;
+        }
+        for (MathFunction stage : stages) {
+            x = stage.apply(x);
+        }
+        return x;
+    }
+
+    public double[] apply(double[] xValues) {
+        double[] results = new double[xValues.length];
+        apply(xValues, 0, results, 0, xValues.length);
+        return results;
+    }
+
+    // Пакет проходит стадию за стадией; табулированные стадии используют собственное пакетное вычисление
+    public void apply(double[] xValues, int xFrom, double[] results, int resultsFrom, int length) {
+        AbstractTabulatedFunction.checkBatchRange(xValues, xFrom, results, resultsFrom, length);
+        if (constant) {
+            Arrays.fill(results, resultsFrom, resultsFrom + length, constantValue);
+            return;
+        }
+        System.arraycopy(xValues, xFrom, results, resultsFrom, length);
+        double[] buffer = null;
+        for (MathFunction stage : stages) {
+            if (stage instanceof TabulatedFunction tabulated) {
+                if (buffer == null) {
+                    buffer = new double[length];
+                }
+                System.arraycopy(results, resultsFrom, buffer, 0, length); // пакетный apply не допускает совпадения массивов
+                tabulated.apply(buffer, 0, results, resultsFrom, length);
+            } else {
+                for (int i = resultsFrom; i < resultsFrom + length; i++) {
+                    results[i] = stage.apply(results[i]);
+                }
+            }
+        }
+    }
+
+    public int getStageCount() {
+        return stages.length;
+    }
+
+    public boolean isConstant() {
+        return constant;
+    }
+}
@@ -2,4 +2,11 @@ package functions;
 
 public interface Insertable {
     void insert(double x, double y);
+
+    default void insertAll(double[] xValues, double[] yValues) { // пакетная вставка, по умолчанию - поточечно
+        AbstractTabulatedFunction.checkLengthIsTheSame(xValues, yValues);
+        for (int i = 0; i < xValues.length; i++) {
+            insert(xValues[i], yValues[i]);
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package functions;
+
+public interface InterpolationEngine { // вычисление пакета значений по уже найденным левым границам интервалов
+    // results[resultsFrom + i] - значение function на отрезке [xArray[floors[i]]; xArray[floors[i] + 1]] в точке xValues[xFrom + i];
+    // результат должен совпадать с function.apply(x) побитово
+    void interpolate(AbstractTabulatedFunction function, double[] xArray, double[] yArray, int[] floors,
+                     double[] xValues, int xFrom, double[] results, int resultsFrom, int length);
+}
@@ -0,0 +1,14 @@
+package functions;
+
+public final class InterpolationEngines {
+    private InterpolationEngines() {
+    }
+
+    public static InterpolationEngine scalar() {
+        return ScalarInterpolationEngine.INSTANCE;
+    }
+
+    public static InterpolationEngine defaultEngine() {
+        return ScalarInterpolationEngine.INSTANCE;
+    }
+}
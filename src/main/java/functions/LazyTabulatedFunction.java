@@ -0,0 +1,228 @@
+package functions;
+
+import exceptions.InterpolationException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Равномерная сетка задаётся сразу, а y(i) = source.apply(x(i)) вычисляется при первом обращении и кэшируется.
+// Узлы совпадают с узлами ArrayTabulatedFunction(source, xFrom, xTo, count).
+// Блокировок нет: ещё не вычисленная ячейка хранит особый NaN, значение публикуется release-записью,
+// а при одновременном вычислении одной точки в таблице остаётся значение первого записавшего потока.
+public class LazyTabulatedFunction extends AbstractTabulatedFunction {
+    private static final Logger logger = LoggerFactory.getLogger(LazyTabulatedFunction.class);
+    private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(double[].class);
+    // NaN с особой мантиссой; CAS по double сравнивает именно биты, поэтому обычный NaN от source с ним не совпадёт
+    private static final double MISSING = Double.longBitsToDouble(0x7FF8_0000_1A2B_0001L);
+    private final MathFunction source;
+    private final double xFrom;
+    private final double step;
+    private final int count;
+    private final double[] yArray; // доступ только через CELLS
+
+    public LazyTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) {
+        if (count < 2) {
+            logger.error("Insufficient points requested: {}", count);
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        if (xFrom > xTo) {
+            double temp = xFrom;
+            xFrom = xTo;
+            xTo = temp;
+        }
+        this.source = source;
+        this.xFrom = xFrom;
+        this.step = (xTo - xFrom) / (count - 1);
+        this.count = count;
+        this.yArray = new double[count];
+        Arrays.fill(yArray, MISSING);
+        logger.info("LazyTabulatedFunction created with {} points on [{}, {}]", count, xFrom, xTo);
+    }
+
+    private double xAt(int index) {
+        return step == 0 ? xFrom : xFrom + index * step;
+    }
+
+    private static boolean isMissing(double value) {
+        return Double.doubleToRawLongBits(value) == Double.doubleToRawLongBits(MISSING);
+    }
+
+    private static double publishable(double value) { // source, вернувший ровно MISSING, сохраняется как обычный NaN
+        return isMissing(value) ? Double.NaN : value;
+    }
+
+    private double yAt(int index) {
+        double y = (double) CELLS.getAcquire(yArray, index);
+        if (!isMissing(y)) {
+            return y;
+        }
+        y = publishable(source.apply(xAt(index))); // вычисляем без блокировки, читатели готовых значений не ждут
+        double witness = (double) CELLS.compareAndExchangeRelease(yArray, index, MISSING, y);
+        return isMissing(witness) ? y : witness; // побеждает первая запись
+    }
+
+    public boolean isComputed(int index) {
+        checkIndex(index);
+        return !isMissing((double) CELLS.getAcquire(yArray, index));
+    }
+
+    public int getComputedCount() {
+        int computed = 0;
+        for (int i = 0; i < count; i++) {
+            if (!isMissing((double) CELLS.getAcquire(yArray, i))) {
+                computed++;
+            }
+        }
+        return computed;
+    }
+
+    public CompletableFuture<Void> prefetch(Executor executor) { // фоновое вычисление ещё не запрошенных точек
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                for (int i = nextMissing(0); i >= 0 && !future.isDone(); i = nextMissing(i + 1)) {
+                    yAt(i); // отмена future прерывает предвыборку между точками
+                }
+                future.complete(null);
+            } catch (RuntimeException e) {
+                logger.error("Prefetch of lazy tabulated function failed", e);
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private int nextMissing(int from) {
+        for (int i = from; i < count; i++) {
+            if (isMissing((double) CELLS.getAcquire(yArray, i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("Index out of bounds: {} (count={})", index, count);
+            throw new IllegalArgumentException("Index out of bounds: " + index);
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return xAt(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return yAt(index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        checkIndex(index);
+        CELLS.setRelease(yArray, index, publishable(value));
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        if (step == 0) {
+            return Math.abs(xFrom - x) < 1e-12 ? 0 : -1;
+        }
+        return uniformIndexOfX(x, xFrom, step, count);
+    }
+
+    @Override
+    public int indexOfY(double y) { // вынужденно вычисляет точки до первого совпадения
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(yAt(i) - y) < 1e-12) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xFrom;
+    }
+
+    @Override
+    public double rightBound() {
+        return xAt(count - 1);
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < xFrom) {
+            logger.error("X={} is less than left bound {}", x, xFrom);
+            throw new IllegalArgumentException("x is less than left bound: " + x);
+        }
+        if (x > rightBound()) return count;
+        if (step == 0) {
+            return 0;
+        }
+        return uniformFloorIndexOfX(x, xFrom, step, count);
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xAt(0), xAt(1), yAt(0), yAt(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, xAt(count - 2), xAt(count - 1), yAt(count - 2), yAt(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            logger.error("Invalid floor index for interpolation: {} (count={})", floorIndex, count);
+            throw new InterpolationException("Incorrect index for interpolation");
+        }
+        double leftX = xAt(floorIndex);
+        double rightX = xAt(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            logger.error("X={} outside interpolation interval [{}, {}]", x, leftX, rightX);
+            throw new InterpolationException("Point x is outside the interpolation interval");
+        }
+        return interpolate(x, leftX, rightX, yAt(floorIndex), yAt(floorIndex + 1));
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.warn("Iterator next() called with no more elements");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(xAt(i), yAt(i));
+                i++;
+                return point;
+            }
+        };
+    }
+}
@@ -1,9 +1,20 @@
 package functions;
 
 import exceptions.InterpolationException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,8 +33,11 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             this.y = y;
         }
     }
-    private Node head;
+    private transient Node head; // узлы пишутся плоско в writeObject, а не обходом графа
     protected int count;
+    private boolean uniform;
+    private double gridFrom;
+    private double gridStep;
     private void addNode(double x, double y) { //метод для добавления узла в конец списка
         Node newNode = new Node(x, y);
         if (head == null) { //если список пустой
@@ -40,25 +54,318 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         }
         count ++;
     }
+    // "палец": последний найденный узел и его индекс. Неизменяемая пара читается одной ссылкой,
+    // поэтому параллельные читатели не увидят узел от одного обращения, а индекс от другого
+    private static final class Finger {
+        private final Node node;
+        private final int index;
+
+        private Finger(Node node, int index) {
+            this.node = node;
+            this.index = index;
+        }
+    }
+    private transient Finger finger; // null после любого изменения структуры списка
     private Node getNode(int index) { //метод для получения узла по индексу
         if (index < 0 || index >= count) {
             logger.error("Node index out of bounds: {} (count={})", index, count);
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
         }
-        Node current;
-        if (index <= count / 2) {
-            current = head;
-            for (int i = 0; i < index; i++) {
-                current = current.next;
-            }
-        } else {
+        // идём от ближайшей известной точки: головы, хвоста или пальца
+        Node current = head;
+        int position = 0;
+        if (count - 1 - index < index) {
             current = head.prev;
-            for (int i = count - 1; i > index; i--) {
-                current = current.prev;
-            }
+            position = count - 1;
+        }
+        Finger last = finger;
+        if (last != null && Math.abs(last.index - index) < Math.abs(position - index)) {
+            current = last.node;
+            position = last.index;
+        }
+        for (; position < index; position++) {
+            current = current.next;
+        }
+        for (; position > index; position--) {
+            current = current.prev;
+        }
+        if (last == null || last.node != current) {
+            finger = new Finger(current, index);
         }
         return current;
     }
+    private void structureChanged() { // сброс всего, что запомнило позиции узлов
+        finger = null;
+        if (skipIndex != null) {
+            skipIndex.dirty = true;
+        }
+    }
+
+    private static final class IndexEntry { // элемент уровня skip-list индекса
+        private final Node node; // null у заголовка уровня, стоящего перед головой списка (позиция -1)
+        private IndexEntry next;
+        private IndexEntry down; // тот же узел уровнем ниже; null на первом уровне
+        private int width; // число шагов по списку до узла next
+
+        private IndexEntry(Node node) {
+            this.node = node;
+        }
+    }
+
+    // Многоуровневый индекс поверх кольцевого списка: на уровень выше попадает в среднем каждый fanout-й узел,
+    // поэтому поиск по x и вставка стоят O(log n), а памяти уходит около n / (fanout - 1) элементов.
+    // insert обновляет индекс на месте, остальные изменения структуры помечают его устаревшим,
+    // и он перестраивается за O(n) при следующем поиске.
+    private final class SkipIndex {
+        private static final int MAX_LEVELS = 32;
+        private final int fanout;
+        private IndexEntry top;
+        private int levels;
+        private int entries;
+        private boolean dirty = true;
+
+        private SkipIndex(int fanout) {
+            this.fanout = fanout;
+        }
+
+        private void rebuild() {
+            IndexEntry sentinel = new IndexEntry(null);
+            IndexEntry last = sentinel;
+            int lastPosition = -1;
+            entries = 0;
+            Node current = head;
+            for (int i = 0; i < count; i++, current = current.next) {
+                if ((i + 1) % fanout == 0) {
+                    last = link(last, lastPosition, new IndexEntry(current), i);
+                    lastPosition = i;
+                    entries++;
+                }
+            }
+            top = sentinel;
+            levels = 1;
+            int levelSize = entries;
+            while (levelSize >= fanout && levels < MAX_LEVELS) { // каждый fanout-й элемент уровня поднимается выше
+                IndexEntry upper = new IndexEntry(null);
+                upper.down = top;
+                last = upper;
+                lastPosition = -1;
+                int position = -1;
+                int upperSize = 0;
+                IndexEntry lower = top;
+                for (int k = 1; lower.next != null; k++) {
+                    position += lower.width;
+                    lower = lower.next;
+                    if (k % fanout == 0) {
+                        IndexEntry entry = new IndexEntry(lower.node);
+                        entry.down = lower;
+                        last = link(last, lastPosition, entry, position);
+                        lastPosition = position;
+                        upperSize++;
+                    }
+                }
+                entries += upperSize;
+                levelSize = upperSize;
+                top = upper;
+                levels++;
+            }
+            dirty = false;
+            logger.debug("Skip index rebuilt: {} levels, {} entries for {} points", levels, entries, count);
+        }
+
+        private IndexEntry link(IndexEntry last, int lastPosition, IndexEntry entry, int position) {
+            last.next = entry;
+            last.width = position - lastPosition;
+            return entry;
+        }
+
+        // последний узел с x(i) < x (или <= x при inclusive) и его позиция; узел null и позиция -1, если таких нет.
+        // update/positions, если заданы, получают последний пройденный элемент каждого уровня
+        private Finger search(double x, boolean inclusive, IndexEntry[] update, int[] positions) {
+            if (dirty) {
+                rebuild();
+            }
+            IndexEntry entry = top;
+            int position = -1;
+            for (int level = levels; level >= 1; level--) {
+                while (entry.next != null && precedes(entry.next.node.x, x, inclusive)) {
+                    position += entry.width;
+                    entry = entry.next;
+                }
+                if (update != null) {
+                    update[level] = entry;
+                    positions[level] = position;
+                }
+                if (level > 1) {
+                    entry = entry.down;
+                }
+            }
+            Node node = entry.node; // дальше - не больше fanout шагов по самому списку
+            Node candidate = (node == null) ? head : node.next;
+            while (position + 1 < count && precedes(candidate.x, x, inclusive)) {
+                node = candidate;
+                candidate = candidate.next;
+                position++;
+            }
+            return new Finger(node, position);
+        }
+
+        private boolean precedes(double nodeX, double x, boolean inclusive) {
+            return inclusive ? nodeX <= x : nodeX < x;
+        }
+
+        private int indexOfX(double x) { // самый левый узел в пределах 1e-12, как при линейном поиске
+            Finger before = search(x, false, null, null);
+            int found = -1;
+            Node node = before.node;
+            for (int i = before.index; i >= 0 && Math.abs(node.x - x) < 1e-12; i--, node = node.prev) {
+                found = i;
+            }
+            if (found != -1) {
+                return found;
+            }
+            Node after = (before.node == null) ? head : before.node.next;
+            if (before.index + 1 < count && Math.abs(after.x - x) < 1e-12) {
+                finger = new Finger(after, before.index + 1);
+                return before.index + 1;
+            }
+            return -1;
+        }
+
+        private int floorIndexOfX(double x) {
+            Finger floor = search(x, true, null, null);
+            if (floor.node != null) {
+                finger = floor; // следующие getX(floor) и getX(floor + 1) в apply обходятся без прохода по списку
+            }
+            return floor.index;
+        }
+
+        private void insert(double x, double y) {
+            if (dirty) {
+                rebuild();
+            }
+            IndexEntry[] update = new IndexEntry[MAX_LEVELS + 1];
+            int[] positions = new int[MAX_LEVELS + 1];
+            Finger before = search(x, false, update, positions);
+            if (before.node != null && Math.abs(before.node.x - x) < 1e-12) {
+                int index = before.index; // замена значения у самого левого совпадающего узла
+                Node node = before.node;
+                while (index > 0 && Math.abs(node.prev.x - x) < 1e-12) {
+                    node = node.prev;
+                    index--;
+                }
+                node.y = y;
+                return;
+            }
+            Node after = (before.node == null) ? head : before.node.next;
+            if (before.index + 1 < count && Math.abs(after.x - x) < 1e-12) {
+                after.y = y;
+                return;
+            }
+            int index = before.index + 1;
+            Node newNode = new Node(x, y);
+            Node prev = (before.node == null) ? head.prev : before.node;
+            newNode.prev = prev;
+            newNode.next = prev.next;
+            prev.next.prev = newNode;
+            prev.next = newNode;
+            if (index == 0) {
+                head = newNode;
+            }
+            if (uniform && !(index == count && x == gridFrom + count * gridStep)) {
+                disableUniformGrid();
+            }
+            count++;
+            if (index != count - 1) {
+                finger = null; // индексы правее вставки сдвинулись
+            }
+
+            int height = 0; // высота башни нового узла: каждый следующий уровень с вероятностью 1 / fanout
+            while (height < MAX_LEVELS && ThreadLocalRandom.current().nextInt(fanout) == 0) {
+                height++;
+            }
+            while (levels < height) { // новый верхний уровень
+                IndexEntry upper = new IndexEntry(null);
+                upper.down = top;
+                top = upper;
+                levels++;
+                update[levels] = upper;
+                positions[levels] = -1;
+            }
+            IndexEntry below = null;
+            for (int level = 1; level <= levels; level++) {
+                IndexEntry previous = update[level];
+                if (level <= height) {
+                    IndexEntry entry = new IndexEntry(newNode);
+                    entry.next = previous.next;
+                    entry.width = positions[level] + previous.width + 1 - index;
+                    entry.down = below;
+                    previous.next = entry;
+                    previous.width = index - positions[level];
+                    below = entry;
+                    entries++;
+                } else if (previous.next != null) {
+                    previous.width++; // узел справа от вставки отодвинулся на одну позицию
+                }
+            }
+        }
+    }
+    private transient SkipIndex skipIndex; // null - индекс выключен
+
+    public void enableSkipIndex(int fanout) { // fanout задаёт баланс: больше - меньше памяти, длиннее шаги поиска
+        if (fanout < 2) {
+            logger.error("Skip index fanout must be at least 2: {}", fanout);
+            throw new IllegalArgumentException("Fanout must be at least 2");
+        }
+        skipIndex = new SkipIndex(fanout);
+        logger.debug("Skip index enabled with fanout {}", fanout);
+    }
+
+    public void disableSkipIndex() {
+        skipIndex = null;
+    }
+
+    public boolean hasSkipIndex() {
+        return skipIndex != null;
+    }
+
+    public int getSkipIndexSize() { // число элементов индекса - его накладные расходы по памяти
+        if (skipIndex == null) {
+            return 0;
+        }
+        if (skipIndex.dirty) {
+            skipIndex.rebuild();
+        }
+        return skipIndex.entries;
+    }
+    // Формат: поля по умолчанию (count и параметры сетки), затем count значений x и count значений y.
+    // Обход списка циклом - без рекурсии по next/prev и без дескрипторов на каждый узел.
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        Node current = head;
+        for (int i = 0; i < count; i++, current = current.next) {
+            out.writeDouble(current.x);
+        }
+        for (int i = 0; i < count; i++, current = current.next) {
+            out.writeDouble(current.y);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int size = count;
+        if (size < 2) {
+            logger.error("Corrupted serialized linked list function: count={}", size);
+            throw new InvalidObjectException("The table should be at least 2 points long: " + size);
+        }
+        double[] xValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = in.readDouble();
+        }
+        count = 0;
+        for (int i = 0; i < size; i++) {
+            addNode(xValues[i], in.readDouble());
+        }
+    }
     public LinkedListTabulatedFunction(double [] xValues, double [] yValues) { //конструктор из массивов
         if (xValues.length < 2) {
             logger.error("Insufficient points for linked list: {}", xValues.length);
@@ -71,6 +378,12 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         for (int i = 0; i < xValues.length; i++) {
             addNode(xValues[i], yValues[i]);
         }
+        double step = (xValues[count - 1] - xValues[0]) / (count - 1);
+        if (isUniform(xValues, step)) {
+            uniform = true;
+            gridFrom = xValues[0];
+            gridStep = step;
+        }
     }
     public LinkedListTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) { // конструктор: дискретизация
         if (count < 2) {
@@ -96,6 +409,9 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
                 double y = source.apply(x);
                 addNode(x, y);
             }
+            uniform = step > 0;
+            gridFrom = xFrom;
+            gridStep = step;
         }
     }
     @Override
@@ -146,8 +462,18 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         getNode(index).y = value;
     }
 
+    public boolean isUniform() {
+        return uniform;
+    }
+
     @Override
     public int indexOfX(double x) {
+        if (uniform) {
+            return uniformIndexOfX(x, gridFrom, gridStep, count);
+        }
+        if (skipIndex != null) {
+            return skipIndex.indexOfX(x);
+        }
         Node current = head;
         for (int i = 0; i < count; i++) {
             if (Math.abs(current.x - x) < 1e-12) {
@@ -206,6 +532,12 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         }
         if (x < getX(0)) return 0;
         if (x > getX(count - 1))return count;
+        if (uniform) {
+            return uniformFloorIndexOfX(x, gridFrom, gridStep, count);
+        }
+        if (skipIndex != null) {
+            return skipIndex.floorIndexOfX(x);
+        }
         int left = 0;
         int right = count - 1;
         while (left <= right) {
@@ -221,8 +553,47 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         return right;
     }
 
+    @Override
+    public void apply(double[] xValues, int xFrom, double[] results, int resultsFrom, int length) {
+        checkBatchRange(xValues, xFrom, results, resultsFrom, length);
+        if (!isSorted(xValues, xFrom, length)) {
+            for (int i = 0; i < length; i++) {
+                results[resultsFrom + i] = apply(xValues[xFrom + i]);
+            }
+            return;
+        }
+        // запросы отсортированы - двигаем узел левой границы интервала вместе с ними
+        Node first = head;
+        Node last = head.prev;
+        Node floor = head;
+        for (int i = 0; i < length; i++) {
+            double x = xValues[xFrom + i];
+            if (x < first.x) {
+                results[resultsFrom + i] = interpolate(x, first.x, first.next.x, first.y, first.next.y);
+            } else if (x > last.x) {
+                results[resultsFrom + i] = interpolate(x, last.prev.x, last.x, last.prev.y, last.y);
+            } else {
+                while (floor.next != last && floor.next.x < x) {
+                    floor = floor.next;
+                }
+                Node right = floor.next;
+                if (Math.abs(floor.x - x) < 1e-12) {
+                    results[resultsFrom + i] = floor.y;
+                } else if (Math.abs(right.x - x) < 1e-12) {
+                    results[resultsFrom + i] = right.y;
+                } else {
+                    results[resultsFrom + i] = interpolate(x, floor.x, right.x, floor.y, right.y);
+                }
+            }
+        }
+    }
+
     @Override
     public void insert(double x, double y) {
+        if (skipIndex != null) {
+            skipIndex.insert(x, y);
+            return;
+        }
         // Проверяем, существует ли уже узел с таким x
         int existingIndex = indexOfX(x);
         if (existingIndex != -1) {
@@ -247,7 +618,9 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             last.next = newNode;
             // обновляем голову списка
             head = newNode;
+            disableUniformGrid();
             count++;
+            structureChanged(); //индексы всех узлов сдвинулись
             return;
         }
         // если новый узел должен быть в конце списка
@@ -259,9 +632,13 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             // обновляем связи соседних узлов
             last.next = newNode;
             head.prev = newNode;
+            if (uniform && x != gridFrom + count * gridStep) {
+                disableUniformGrid();
+            }
             count++;
             return;
         }
+        disableUniformGrid();
         // поиск места для вставки в середину списка
         Node current = head;
         for (int i = 0; i < count; i++) {
@@ -273,12 +650,138 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
                 current.next.prev = newNode;
                 current.next = newNode;
                 count++;
+                structureChanged();
                 return;
             }
             current = current.next;
         }
     }
 
+    @Override
+    public void insertAll(double[] xValues, double[] yValues) {
+        checkLengthIsTheSame(xValues, yValues);
+        int[] order = sortedOrder(xValues); //пачка сортируется один раз, затем список проходится один раз
+        Node cursor = null; // последний узел левее текущей точки пачки (null - перед головой)
+        boolean inserted = false;
+        for (int j : order) {
+            double x = xValues[j];
+            double y = yValues[j];
+            Node next = (cursor == null) ? head : (cursor.next == head ? null : cursor.next);
+            while (next != null && next.x < x && Math.abs(next.x - x) >= 1e-12) {
+                cursor = next;
+                next = (next.next == head) ? null : next.next;
+            }
+            if (cursor != null && Math.abs(cursor.x - x) < 1e-12) {
+                cursor.y = y; // совпадение с только что вставленной точкой
+            } else if (next != null && Math.abs(next.x - x) < 1e-12) {
+                next.y = y; // замена значения существующей точки
+            } else {
+                Node newNode = new Node(x, y);
+                Node before = (cursor == null) ? head.prev : cursor;
+                newNode.prev = before;
+                newNode.next = before.next;
+                before.next.prev = newNode;
+                before.next = newNode;
+                if (cursor == null) {
+                    head = newNode;
+                }
+                cursor = newNode;
+                count++;
+                inserted = true;
+            }
+        }
+        if (inserted) {
+            structureChanged();
+        }
+        if (inserted && uniform) {
+            Node current = head;
+            for (int i = 0; i < count; i++, current = current.next) {
+                if (current.x != gridFrom + i * gridStep) {
+                    disableUniformGrid();
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            logger.error("Remove range out of bounds: [{}, {}) (count={})", fromIndex, toIndex, count);
+            throw new IllegalArgumentException("Index range out of bounds: [" + fromIndex + ", " + toIndex + ")");
+        }
+        if (count - (toIndex - fromIndex) < 2) {
+            logger.error("Cannot remove {} points - minimum 2 points required", toIndex - fromIndex);
+            throw new IllegalStateException("Cannot remove elements - minimum 2 points required");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        if (toIndex != count) {
+            disableUniformGrid();
+        }
+        Node first = getNode(fromIndex);
+        Node last = first;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            last = last.next;
+        }
+        // вырезаем весь участок [first; last] одной перестановкой ссылок
+        first.prev.next = last.next;
+        last.next.prev = first.prev;
+        if (fromIndex == 0) {
+            head = last.next;
+        }
+        count -= toIndex - fromIndex;
+        structureChanged();
+    }
+
+    @Override
+    public boolean removeIf(DoublePredicate onX) {
+        boolean[] removed = new boolean[count];
+        int removedCount = 0;
+        int firstRemoved = count;
+        Node current = head;
+        for (int i = 0; i < count; i++, current = current.next) {
+            if (onX.test(current.x)) {
+                removed[i] = true;
+                removedCount++;
+                firstRemoved = Math.min(firstRemoved, i);
+            }
+        }
+        if (removedCount == 0) {
+            return false;
+        }
+        if (count - removedCount < 2) {
+            logger.error("Cannot remove {} points - minimum 2 points required", removedCount);
+            throw new IllegalStateException("Cannot remove elements - minimum 2 points required");
+        }
+        if (firstRemoved < count - removedCount) {
+            disableUniformGrid();
+        }
+        current = head;
+        for (int i = 0; i < removed.length; i++) {
+            Node next = current.next;
+            if (removed[i]) {
+                current.prev.next = next;
+                next.prev = current.prev;
+                if (current == head) {
+                    head = next;
+                }
+            }
+            current = next;
+        }
+        count -= removedCount;
+        structureChanged();
+        return true;
+    }
+
+    private void disableUniformGrid() {
+        if (uniform) {
+            uniform = false;
+            logger.debug("Uniform grid mode disabled ({} points)", count);
+        }
+    }
+
     @Override
     public void remove(int index) { //метод для удаления узлов
         if (index < 0 || index >= count) {
@@ -294,6 +797,9 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             count = 0;
             return;
         }
+        if (index != count - 1) {
+            disableUniformGrid(); //удаление не последней точки нарушает равномерность
+        }
         Node nodeToRemove = getNode(index);
         if (nodeToRemove == head) { //если удаляем голову
             head = head.next;
@@ -301,11 +807,150 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         nodeToRemove.prev.next = nodeToRemove.next; //переписываем узлы
         nodeToRemove.next.prev = nodeToRemove.prev;
         count--;
+        structureChanged(); //узел пальца мог быть удалён
         if (count == 0) { //если список стал пустым
             head = null;
         }
     }
 
+    @Override
+    public PointCursor cursor() { //обход по узлам, без создания Point
+        return new PointCursor() {
+            private Node currentNode = null;
+            private int visited = 0;
+
+            @Override
+            public boolean advance() {
+                if (visited >= count) {
+                    return false;
+                }
+                currentNode = (currentNode == null) ? head : currentNode.next;
+                visited++;
+                return true;
+            }
+
+            @Override
+            public double x() {
+                return currentNode.x;
+            }
+
+            @Override
+            public double y() {
+                return currentNode.y;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<Point> spliterator() {
+        return new PointSpliterator(head, count);
+    }
+
+    @Override
+    public DoubleStream xs() {
+        return StreamSupport.doubleStream(new ValueSpliterator(head, count, true), false);
+    }
+
+    @Override
+    public DoubleStream ys() {
+        return StreamSupport.doubleStream(new ValueSpliterator(head, count, false), false);
+    }
+
+    private static Node skip(Node node, int steps) {
+        for (int i = 0; i < steps; i++) {
+            node = node.next;
+        }
+        return node;
+    }
+
+    private static final class PointSpliterator implements Spliterator<Point> {
+        private Node current; // первый ещё не пройденный узел
+        private int remaining;
+
+        private PointSpliterator(Node current, int remaining) {
+            this.current = current;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Point> action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            action.accept(new Point(current.x, current.y));
+            current = current.next;
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public Spliterator<Point> trySplit() { // отдаём первую половину, сами переходим к середине
+            int half = remaining / 2;
+            if (half == 0) {
+                return null;
+            }
+            PointSpliterator prefix = new PointSpliterator(current, half);
+            current = skip(current, half);
+            remaining -= half;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    private static final class ValueSpliterator implements Spliterator.OfDouble {
+        private Node current;
+        private int remaining;
+        private final boolean xValues; // true - x, false - y
+
+        private ValueSpliterator(Node current, int remaining, boolean xValues) {
+            this.current = current;
+            this.remaining = remaining;
+            this.xValues = xValues;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            action.accept(xValues ? current.x : current.y);
+            current = current.next;
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            int half = remaining / 2;
+            if (half == 0) {
+                return null;
+            }
+            ValueSpliterator prefix = new ValueSpliterator(current, half, xValues);
+            current = skip(current, half);
+            remaining -= half;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
     @Override
     public Iterator<Point> iterator() {
         return new Iterator<Point>() {
@@ -0,0 +1,135 @@
+package functions;
+
+import java.lang.classfile.ClassFile;
+import java.lang.classfile.CodeBuilder;
+import java.lang.classfile.TypeKind;
+import java.lang.constant.ClassDesc;
+import java.lang.constant.ConstantDescs;
+import java.lang.constant.DirectMethodHandleDesc;
+import java.lang.constant.DynamicConstantDesc;
+import java.lang.constant.MethodHandleDesc;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Компилирует дерево CompositeFunction в скрытый класс, где всё дерево развёрнуто в линейный байт-код метода apply.
+// SqrFunction, ConstantFunction и IdentityFunction встраиваются, остальные узлы (табулированные, лямбды)
+// вызываются через static final поля скрытого класса, которые JIT считает константами.
+// Порядок вычислений тот же, что у исходного дерева, поэтому результаты совпадают побитово.
+public final class MathFunctionCompiler {
+    private static final Logger logger = LoggerFactory.getLogger(MathFunctionCompiler.class);
+    private static final int MAX_NODES = 2000; // дальше метод рискует превысить предел размера байт-кода
+
+    private static final ClassDesc CD_MATH_FUNCTION = ClassDesc.of(MathFunction.class.getName());
+    private static final ClassDesc CD_MATH = ClassDesc.of(Math.class.getName());
+    private static final MethodTypeDesc MTD_APPLY = MethodTypeDesc.of(ConstantDescs.CD_double, ConstantDescs.CD_double);
+    private static final MethodTypeDesc MTD_POW = MethodTypeDesc.of(ConstantDescs.CD_double, ConstantDescs.CD_double, ConstantDescs.CD_double);
+    private static final DirectMethodHandleDesc BSM_CLASS_DATA_AT = MethodHandleDesc.ofMethod(
+            DirectMethodHandleDesc.Kind.STATIC, ClassDesc.of(MethodHandles.class.getName()), "classDataAt",
+            MethodTypeDesc.of(ConstantDescs.CD_Object, ConstantDescs.CD_MethodHandles_Lookup,
+                    ConstantDescs.CD_String, ConstantDescs.CD_Class, ConstantDescs.CD_int));
+
+    private MathFunctionCompiler() {
+    }
+
+    public static MathFunction compile(MathFunction function) {
+        if (function == null) {
+            logger.error("Cannot compile null function");
+            throw new IllegalArgumentException("Function is null");
+        }
+        int nodes = countNodes(function);
+        if (nodes > MAX_NODES) {
+            logger.warn("Function tree of {} nodes is too large to compile, using flattened pipeline", nodes);
+            return FunctionPipeline.of(function);
+        }
+        List<MathFunction> leaves = new ArrayList<>();
+        ClassDesc thisClass = ClassDesc.of(MathFunctionCompiler.class.getPackageName() + ".CompiledMathFunction");
+        byte[] bytes = ClassFile.of().build(thisClass, classBuilder -> {
+            classBuilder.withFlags(ClassFile.ACC_PUBLIC | ClassFile.ACC_FINAL)
+                    .withSuperclass(ConstantDescs.CD_Object)
+                    .withInterfaceSymbols(CD_MATH_FUNCTION);
+            classBuilder.withMethodBody("apply", MTD_APPLY, ClassFile.ACC_PUBLIC, code -> {
+                int temp = code.allocateLocal(TypeKind.DOUBLE);
+                code.dload(code.parameterSlot(0));
+                emit(code, thisClass, function, leaves, temp);
+                code.dreturn();
+            });
+            for (int i = 0; i < leaves.size(); i++) { // поля листьев, заполняются в <clinit> из classData
+                classBuilder.withField(leafName(i), CD_MATH_FUNCTION,
+                        ClassFile.ACC_PRIVATE | ClassFile.ACC_STATIC | ClassFile.ACC_FINAL);
+            }
+            classBuilder.withMethodBody(ConstantDescs.CLASS_INIT_NAME, ConstantDescs.MTD_void, ClassFile.ACC_STATIC, code -> {
+                for (int i = 0; i < leaves.size(); i++) {
+                    code.ldc(DynamicConstantDesc.ofNamed(BSM_CLASS_DATA_AT, ConstantDescs.DEFAULT_NAME, CD_MATH_FUNCTION, i));
+                    code.putstatic(thisClass, leafName(i), CD_MATH_FUNCTION);
+                }
+                code.return_();
+            });
+            classBuilder.withMethodBody(ConstantDescs.INIT_NAME, ConstantDescs.MTD_void, ClassFile.ACC_PUBLIC, code -> {
+                code.aload(code.receiverSlot());
+                code.invokespecial(ConstantDescs.CD_Object, ConstantDescs.INIT_NAME, ConstantDescs.MTD_void);
+                code.return_();
+            });
+        });
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(bytes, List.copyOf(leaves), true);
+            MathFunction compiled = (MathFunction) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+            logger.debug("Compiled function tree of {} nodes into {} bytes with {} leaf calls", nodes, bytes.length, leaves.size());
+            return compiled;
+        } catch (Throwable e) {
+            logger.error("Failed to define compiled function class", e);
+            throw new IllegalStateException("Failed to compile function", e);
+        }
+    }
+
+    // На входе значение аргумента лежит на стеке операндов, на выходе - значение узла
+    private static void emit(CodeBuilder code, ClassDesc thisClass, MathFunction node, List<MathFunction> leaves, int temp) {
+        Class<?> type = node.getClass();
+        if (type == CompositeFunction.class) {
+            CompositeFunction composite = (CompositeFunction) node;
+            emit(code, thisClass, composite.getFirstFunction(), leaves, temp);
+            emit(code, thisClass, composite.getSecondFunction(), leaves, temp);
+        } else if (type == IdentityFunction.class) {
+            return;
+        } else if (type == SqrFunction.class) {
+            code.loadConstant(2.0); // тот же Math.pow(x, 2), что в SqrFunction
+            code.invokestatic(CD_MATH, "pow", MTD_POW);
+        } else if (type == ConstantFunction.class || type == ZeroFunction.class || type == UnitFunction.class) {
+            code.pop2();
+            code.loadConstant(((ConstantFunction) node).getConstant());
+        } else {
+            int index = leaves.size();
+            leaves.add(node);
+            code.dstore(temp);
+            code.getstatic(thisClass, leafName(index), CD_MATH_FUNCTION);
+            code.dload(temp);
+            code.invokeinterface(CD_MATH_FUNCTION, "apply", MTD_APPLY);
+        }
+    }
+
+    private static int countNodes(MathFunction function) {
+        int nodes = 0;
+        Deque<MathFunction> pending = new ArrayDeque<>();
+        pending.push(function);
+        while (!pending.isEmpty()) {
+            MathFunction current = pending.pop();
+            nodes++;
+            if (current.getClass() == CompositeFunction.class) {
+                CompositeFunction composite = (CompositeFunction) current;
+                pending.push(composite.getFirstFunction());
+                pending.push(composite.getSecondFunction());
+            }
+        }
+        return nodes;
+    }
+
+    private static String leafName(int index) {
+        return "leaf" + index;
+    }
+}
@@ -0,0 +1,226 @@
+package functions;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Кэширующая обёртка: значения source хранятся в примитивных хеш-таблицах с открытой адресацией (без упаковки double).
+// Таблица разбита на полосы со своими блокировками; при заполнении полосы значение вытесняется по алгоритму CLOCK.
+// При quantum > 0 x округляется до ближайшего узла сетки с шагом quantum и source вычисляется в этом узле.
+public class MemoizingFunction implements MathFunction {
+    private static final Logger logger = LoggerFactory.getLogger(MemoizingFunction.class);
+    public static final int DEFAULT_STRIPES = 16;
+
+    private final MathFunction source;
+    private final double quantum;
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MemoizingFunction(MathFunction source, int capacity) {
+        this(source, capacity, 0, DEFAULT_STRIPES);
+    }
+
+    public MemoizingFunction(MathFunction source, int capacity, double quantum, int stripes) {
+        if (source == null) {
+            logger.error("Cannot memoize null function");
+            throw new IllegalArgumentException("Source function is null");
+        }
+        if (capacity < 1 || stripes < 1 || !(quantum >= 0) || Double.isInfinite(quantum)) {
+            logger.error("Invalid cache parameters: capacity={}, quantum={}, stripes={}", capacity, quantum, stripes);
+            throw new IllegalArgumentException("Capacity and stripes must be positive, quantum finite and non-negative");
+        }
+        int stripeCount = Integer.highestOneBit(Math.min(stripes, capacity)); // степень двойки, не больше capacity
+        this.source = source;
+        this.quantum = quantum;
+        this.stripes = new Stripe[stripeCount];
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(stripeCount);
+        int perStripe = (capacity + stripeCount - 1) / stripeCount;
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+        logger.info("MemoizingFunction created: capacity={}, quantum={}, stripes={}", capacity, quantum, stripeCount);
+    }
+
+    @Override
+    public double apply(double x) {
+        if (quantum > 0) {
+            x = Math.rint(x / quantum) * quantum;
+        }
+        if (Double.isNaN(x)) {
+            return source.apply(x); // NaN не кэшируется
+        }
+        long key = Double.doubleToRawLongBits(x);
+        long hash = mix(key);
+        Stripe stripe = stripes[stripeShift == 64 ? 0 : (int) (hash >>> stripeShift)];
+        synchronized (stripe) {
+            int slot = stripe.find(key, hash);
+            if (slot >= 0) {
+                stripe.referenced[slot] = true;
+                hits.increment();
+                return stripe.values[slot];
+            }
+        }
+        misses.increment();
+        double y = source.apply(x); // вычисляем без блокировки: дорогой source не задерживает другие потоки полосы
+        synchronized (stripe) {
+            if (stripe.find(key, hash) < 0) {
+                if (stripe.size == stripe.capacity) {
+                    stripe.evict();
+                    evictions.increment();
+                }
+                stripe.insert(key, hash, y);
+            }
+        }
+        return y;
+    }
+
+    // Финализатор fmix64 (MurmurHash3): у целых и узлов сетки младшие биты мантиссы нулевые,
+    // поэтому все биты хеша должны зависеть от всех битов ключа. Полоса берётся из старших битов, слот - из младших
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public MathFunction getSource() {
+        return source;
+    }
+
+    int maxProbeLength() { // наибольшее расстояние элемента от своего слота, для проверки качества хеша
+        int max = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                max = Math.max(max, stripe.maxProbeLength());
+            }
+        }
+        return max;
+    }
+
+    // Линейное пробирование; удаление сдвигает следующие элементы цепочки назад, поэтому пометки "удалено" не нужны
+    private static final class Stripe {
+        private final int capacity;
+        private final int mask;
+        private final long[] keys;
+        private final double[] values;
+        private final boolean[] occupied;
+        private final boolean[] referenced; // бит обращения для CLOCK
+        private int size;
+        private int hand;
+
+        private Stripe(int capacity) {
+            int length = Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1; // заполнение не выше 1/2
+            this.capacity = capacity;
+            this.mask = length - 1;
+            this.keys = new long[length];
+            this.values = new double[length];
+            this.occupied = new boolean[length];
+            this.referenced = new boolean[length];
+        }
+
+        private int find(long key, long hash) {
+            for (int slot = (int) hash & mask; occupied[slot]; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private void insert(long key, long hash, double value) {
+            int slot = (int) hash & mask;
+            while (occupied[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            occupied[slot] = true;
+            referenced[slot] = false;
+            size++;
+        }
+
+        private void evict() { // стрелка пропускает недавно использованные элементы, снимая с них бит обращения
+            while (true) {
+                if (occupied[hand]) {
+                    if (!referenced[hand]) {
+                        remove(hand);
+                        hand = (hand + 1) & mask;
+                        return;
+                    }
+                    referenced[hand] = false;
+                }
+                hand = (hand + 1) & mask;
+            }
+        }
+
+        private void remove(int slot) {
+            int gap = slot;
+            for (int next = (gap + 1) & mask; occupied[next]; next = (next + 1) & mask) {
+                int home = (int) mix(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - gap) & mask)) { // элемент может занять освободившееся место
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    referenced[gap] = referenced[next];
+                    gap = next;
+                }
+            }
+            occupied[gap] = false;
+            referenced[gap] = false;
+            size--;
+        }
+
+        private int maxProbeLength() {
+            int max = 0;
+            for (int slot = 0; slot <= mask; slot++) {
+                if (occupied[slot]) {
+                    max = Math.max(max, (slot - ((int) mix(keys[slot]) & mask)) & mask);
+                }
+            }
+            return max;
+        }
+
+        private void clear() {
+            Arrays.fill(occupied, false);
+            Arrays.fill(referenced, false);
+            size = 0;
+            hand = 0;
+        }
+    }
+}
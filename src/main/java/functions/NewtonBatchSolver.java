@@ -0,0 +1,208 @@
+package functions;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Пакетный поиск корней f из многих начальных точек. Каждая точка решается тем же шагом Ньютона, что в NewtonMetod,
+// но с настраиваемыми допуском и числом итераций. Если Ньютон разошёлся (df = 0, бесконечность или исчерпаны итерации),
+// вокруг начальной точки ищется отрезок со сменой знака f и корень находится делением пополам.
+// Если не удалось и это, корнем сообщается сама начальная точка.
+public class NewtonBatchSolver {
+    private static final Logger logger = LoggerFactory.getLogger(NewtonBatchSolver.class);
+    private static final int SEQUENTIAL_THRESHOLD = 64; // точек на одну задачу ForkJoin
+    private final MathFunction f;
+    private final MathFunction df;
+    private double tolerance = 1e-6;
+    private int maxIterations = 100;
+    private double bracketStep = 1e-2; // начальная полуширина отрезка относительно max(1, |x0|)
+    private int maxExpansions = 60;
+
+    public NewtonBatchSolver(MathFunction f, MathFunction df) {
+        if (f == null || df == null) {
+            logger.error("Function or derivative is null");
+            throw new IllegalArgumentException("Function and derivative must not be null");
+        }
+        this.f = f;
+        this.df = df;
+    }
+
+    public NewtonBatchSolver tolerance(double tolerance) {
+        if (!(tolerance > 0)) {
+            logger.error("Tolerance must be positive: {}", tolerance);
+            throw new IllegalArgumentException("Tolerance must be positive");
+        }
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    public NewtonBatchSolver maxIterations(int maxIterations) {
+        if (maxIterations < 1) {
+            logger.error("Max iterations must be positive: {}", maxIterations);
+            throw new IllegalArgumentException("Max iterations must be positive");
+        }
+        this.maxIterations = maxIterations;
+        return this;
+    }
+
+    public NewtonBatchSolver bracket(double bracketStep, int maxExpansions) {
+        if (!(bracketStep > 0) || Double.isInfinite(bracketStep) || maxExpansions < 0) {
+            logger.error("Invalid bracket search parameters: step={}, expansions={}", bracketStep, maxExpansions);
+            throw new IllegalArgumentException("Bracket step must be positive and expansions non-negative");
+        }
+        this.bracketStep = bracketStep;
+        this.maxExpansions = maxExpansions;
+        return this;
+    }
+
+    public BatchRootSolution solve(double[] starts) {
+        return solve(starts, ForkJoinPool.commonPool());
+    }
+
+    public BatchRootSolution solve(double[] starts, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        int count = starts.length;
+        double[] roots = new double[count];
+        RootStatus[] statuses = new RootStatus[count];
+        int[] iterations = new int[count];
+        LongAdder evaluations = new LongAdder();
+        // параметры копируются в задачу: настройка решателя во время решения не влияет на текущий пакет
+        SolveTask task = new SolveTask(new Settings(f, df, tolerance, maxIterations, bracketStep, maxExpansions),
+                starts, roots, statuses, iterations, evaluations, 0, count);
+        if (count <= SEQUENTIAL_THRESHOLD) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        BatchRootSolution solution = new BatchRootSolution(roots, statuses, iterations, evaluations.sum(), System.nanoTime() - start);
+        logger.info("{}", solution);
+        return solution;
+    }
+
+    private record Settings(MathFunction f, MathFunction df, double tolerance, int maxIterations, double bracketStep, int maxExpansions) {
+    }
+
+    private static boolean signChanges(double fa, double fb) { // без произведения: 1e-200 * 1e-200 даёт 0
+        if (Double.isNaN(fa) || Double.isNaN(fb)) {
+            return false;
+        }
+        return fa == 0 || fb == 0 || (fa < 0) != (fb < 0);
+    }
+
+    private static final class SolveTask extends RecursiveAction {
+        private static final long serialVersionUID = 3170462528845739104L;
+        private final transient Settings settings; // задачи не сериализуются, RecursiveAction Serializable лишь формально
+        private final double[] starts;
+        private final double[] roots;
+        private final RootStatus[] statuses;
+        private final int[] iterations;
+        private final LongAdder evaluations;
+        private final int from;
+        private final int to;
+
+        private SolveTask(Settings settings, double[] starts, double[] roots, RootStatus[] statuses, int[] iterations,
+                          LongAdder evaluations, int from, int to) {
+            this.settings = settings;
+            this.starts = starts;
+            this.roots = roots;
+            this.statuses = statuses;
+            this.iterations = iterations;
+            this.evaluations = evaluations;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new SolveTask(settings, starts, roots, statuses, iterations, evaluations, from, mid),
+                        new SolveTask(settings, starts, roots, statuses, iterations, evaluations, mid, to));
+                return;
+            }
+            long calls = 0;
+            for (int i = from; i < to; i++) {
+                calls += solvePoint(i);
+            }
+            evaluations.add(calls);
+        }
+
+        private long solvePoint(int index) { // возвращает число вызовов f и df
+            double x = starts[index];
+            int steps = 0;
+            long calls = 0;
+            while (steps < settings.maxIterations()) {
+                double xNew = x - settings.f().apply(x) / settings.df().apply(x);
+                calls += 2;
+                steps++;
+                if (!Double.isFinite(xNew)) {
+                    break;
+                }
+                if (Math.abs(xNew - x) < settings.tolerance()) {
+                    roots[index] = xNew;
+                    statuses[index] = RootStatus.CONVERGED;
+                    iterations[index] = steps;
+                    return calls;
+                }
+                x = xNew;
+            }
+
+            // Ньютон разошёлся: расходящиеся итерации уходят далеко, поэтому отрезок со сменой знака
+            // ищется вокруг начальной точки, и при неудаче сообщается тоже она
+            double center = starts[index];
+            double half = settings.bracketStep() * Math.max(1.0, Math.abs(center));
+            double a = center - half;
+            double b = center + half;
+            double fa = settings.f().apply(a);
+            double fb = settings.f().apply(b);
+            calls += 2;
+            for (int expansion = 0; !signChanges(fa, fb) && expansion < settings.maxExpansions(); expansion++) {
+                half *= 2;
+                a = center - half;
+                b = center + half;
+                fa = settings.f().apply(a);
+                fb = settings.f().apply(b);
+                calls += 2;
+                steps++;
+            }
+            if (!signChanges(fa, fb)) {
+                roots[index] = center;
+                statuses[index] = RootStatus.FAILED;
+                iterations[index] = steps;
+                return calls;
+            }
+            if (fa == 0 || fb == 0) { // конец отрезка уже корень; деление ушло бы от него
+                roots[index] = fa == 0 ? a : b;
+                statuses[index] = RootStatus.BRACKETED;
+                iterations[index] = steps;
+                return calls;
+            }
+            while (b - a > settings.tolerance()) {
+                double mid = a + (b - a) / 2;
+                if (mid <= a || mid >= b) {
+                    break; // отрезок сжался до соседних чисел double
+                }
+                double fm = settings.f().apply(mid);
+                calls++;
+                steps++;
+                if (fm == 0) {
+                    a = mid;
+                    b = mid;
+                    fa = 0;
+                } else if ((fm < 0) == (fa < 0)) {
+                    a = mid;
+                    fa = fm;
+                } else {
+                    b = mid;
+                    fb = fm;
+                }
+            }
+            roots[index] = fa == 0 ? a : a + (b - a) / 2; // fa == 0 - середина попала точно в корень
+            statuses[index] = RootStatus.BRACKETED;
+            iterations[index] = steps;
+            return calls;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package functions;
+
+import exceptions.InterpolationException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.DoublePredicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class OffHeapTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable {
+    private static final Logger logger = LoggerFactory.getLogger(OffHeapTabulatedFunction.class);
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE;
+    // память принадлежит арене вызывающего: она освобождается детерминированно при arena.close()
+    private final Arena arena;
+    private MemorySegment xSegment;
+    private MemorySegment ySegment;
+    private int count;
+
+    public OffHeapTabulatedFunction(Arena arena, double[] xValues, double[] yValues) {
+        if (xValues.length < 2) {
+            logger.error("Insufficient points: {}", xValues.length);
+            throw new IllegalArgumentException("The table should be at least 2 points long");
+        }
+        checkLengthIsTheSame(xValues, yValues);
+        checkSorted(xValues);
+
+        this.arena = arena;
+        this.count = xValues.length;
+        this.xSegment = allocate(count);
+        this.ySegment = allocate(count);
+        MemorySegment.copy(xValues, 0, xSegment, DOUBLE, 0, count);
+        MemorySegment.copy(yValues, 0, ySegment, DOUBLE, 0, count);
+        logger.info("OffHeapTabulatedFunction created with {} points", count);
+    }
+
+    public OffHeapTabulatedFunction(Arena arena, MathFunction source, double xFrom, double xTo, int count) {
+        if (count < 2) {
+            logger.error("Insufficient points requested: {}", count);
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        if (xFrom > xTo) {
+            double temp = xFrom;
+            xFrom = xTo;
+            xTo = temp;
+        }
+        this.arena = arena;
+        this.count = count;
+        this.xSegment = allocate(count);
+        this.ySegment = allocate(count);
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            double x = (xFrom == xTo) ? xFrom : xFrom + i * step;
+            xSegment.setAtIndex(DOUBLE, i, x);
+            ySegment.setAtIndex(DOUBLE, i, source.apply(x));
+        }
+    }
+
+    private MemorySegment allocate(long capacity) {
+        return arena.allocate(capacity * DOUBLE.byteSize(), DOUBLE.byteAlignment());
+    }
+
+    private double xAt(int index) {
+        return xSegment.getAtIndex(DOUBLE, index);
+    }
+
+    private double yAt(int index) {
+        return ySegment.getAtIndex(DOUBLE, index);
+    }
+
+    public long getCapacity() {
+        return xSegment.byteSize() / DOUBLE.byteSize();
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        long capacity = getCapacity();
+        if (minCapacity > capacity) {
+            // арена не освобождает сегменты по одному, поэтому растём геометрически:
+            // суммарный объём всех выделений не превышает трёх итоговых
+            long newCapacity = Math.max(minCapacity, capacity * 2);
+            MemorySegment newX = allocate(newCapacity);
+            MemorySegment newY = allocate(newCapacity);
+            MemorySegment.copy(xSegment, 0, newX, 0, count * DOUBLE.byteSize());
+            MemorySegment.copy(ySegment, 0, newY, 0, count * DOUBLE.byteSize());
+            xSegment = newX;
+            ySegment = newY;
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("GetX index out of bounds: {} (count={})", index, count);
+            throw new IllegalArgumentException("Index out of bounds: " + index);
+        }
+        return xAt(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("GetY index out of bounds: {} (count={})", index, count);
+            throw new IllegalArgumentException("Index out of bounds: " + index);
+        }
+        return yAt(index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        if (index < 0 || index >= count) {
+            logger.error("SetY index out of bounds: {} (count={})", index, count);
+            throw new IllegalArgumentException("Index out of bounds: " + index);
+        }
+        ySegment.setAtIndex(DOUBLE, index, value);
+    }
+
+    private int insertionIndexOf(double x) { //бинарный поиск первого x(i) >= x
+        int left = 0;
+        int right = count;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (xAt(mid) < x) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = insertionIndexOf(x);
+        int found = -1;
+        for (int i = index - 1; i >= 0 && Math.abs(xAt(i) - x) < 1e-12; i--) {
+            found = i; //самый левый из совпадающих, как при линейном поиске
+        }
+        if (found != -1) {
+            return found;
+        }
+        if (index < count && Math.abs(xAt(index) - x) < 1e-12) {
+            return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(yAt(i) - y) < 1e-12) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xAt(0);
+    }
+
+    @Override
+    public double rightBound() {
+        return xAt(count - 1);
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < xAt(0)) {
+            logger.error("X={} is less than left bound {}", x, xAt(0));
+            throw new IllegalArgumentException("x is less than left bound: " + x);
+        }
+        if (x > xAt(count - 1)) return count;
+        int index = insertionIndexOf(x);
+        if (index < count && Math.abs(xAt(index) - x) < 1e-12) {
+            return index;
+        }
+        return index - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xAt(0), xAt(1), yAt(0), yAt(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, xAt(count - 2), xAt(count - 1), yAt(count - 2), yAt(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            logger.error("Invalid floor index for interpolation: {} (count={})", floorIndex, count);
+            throw new InterpolationException("Incorrect index for interpolation");
+        }
+        double leftX = xAt(floorIndex);
+        double rightX = xAt(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            logger.error("X={} outside interpolation interval [{}, {}]", x, leftX, rightX);
+            throw new InterpolationException("Point x is outside the interpolation interval");
+        }
+        return interpolate(x, leftX, rightX, yAt(floorIndex), yAt(floorIndex + 1));
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        int insertIndex = insertionIndexOf(x);
+        if (insertIndex > 0 && Math.abs(xAt(insertIndex - 1) - x) < 1e-12) {
+            ySegment.setAtIndex(DOUBLE, insertIndex - 1, y); //замена значения
+            return;
+        }
+        if (insertIndex < count && Math.abs(xAt(insertIndex) - x) < 1e-12) {
+            ySegment.setAtIndex(DOUBLE, insertIndex, y);
+            return;
+        }
+        ensureCapacity(count + 1);
+        long tail = (count - insertIndex) * DOUBLE.byteSize(); //сдвиг хвоста вправо внутри сегмента
+        MemorySegment.copy(xSegment, insertIndex * DOUBLE.byteSize(), xSegment, (insertIndex + 1) * DOUBLE.byteSize(), tail);
+        MemorySegment.copy(ySegment, insertIndex * DOUBLE.byteSize(), ySegment, (insertIndex + 1) * DOUBLE.byteSize(), tail);
+        xSegment.setAtIndex(DOUBLE, insertIndex, x);
+        ySegment.setAtIndex(DOUBLE, insertIndex, y);
+        count++;
+    }
+
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("Remove index out of bounds: {} (count={})", index, count);
+            throw new IllegalArgumentException("Index out of bounds: " + index);
+        }
+        if (count == 2) {
+            logger.error("Cannot remove point - minimum 2 points required");
+            throw new IllegalStateException("Cannot remove element - minimum 2 points required");
+        }
+        removeRange(index, index + 1);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            logger.error("Remove range out of bounds: [{}, {}) (count={})", fromIndex, toIndex, count);
+            throw new IllegalArgumentException("Index range out of bounds: [" + fromIndex + ", " + toIndex + ")");
+        }
+        if (count - (toIndex - fromIndex) < 2) {
+            logger.error("Cannot remove {} points - minimum 2 points required", toIndex - fromIndex);
+            throw new IllegalStateException("Cannot remove elements - minimum 2 points required");
+        }
+        long tail = (count - toIndex) * DOUBLE.byteSize(); //сдвиг хвоста влево внутри сегмента
+        MemorySegment.copy(xSegment, toIndex * DOUBLE.byteSize(), xSegment, fromIndex * DOUBLE.byteSize(), tail);
+        MemorySegment.copy(ySegment, toIndex * DOUBLE.byteSize(), ySegment, fromIndex * DOUBLE.byteSize(), tail);
+        count -= toIndex - fromIndex;
+    }
+
+    @Override
+    public boolean removeIf(DoublePredicate onX) {
+        boolean[] removed = new boolean[count];
+        int removedCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (onX.test(xAt(i))) {
+                removed[i] = true;
+                removedCount++;
+            }
+        }
+        if (removedCount == 0) {
+            return false;
+        }
+        if (count - removedCount < 2) {
+            logger.error("Cannot remove {} points - minimum 2 points required", removedCount);
+            throw new IllegalStateException("Cannot remove elements - minimum 2 points required");
+        }
+        int size = 0; //уплотнение за один проход
+        for (int i = 0; i < count; i++) {
+            if (!removed[i]) {
+                xSegment.setAtIndex(DOUBLE, size, xAt(i));
+                ySegment.setAtIndex(DOUBLE, size, yAt(i));
+                size++;
+            }
+        }
+        count = size;
+        return true;
+    }
+
+    @Override
+    public PointCursor cursor() { //обход напрямую по сегментам, без создания Point
+        return new PointCursor() {
+            private int i = -1;
+
+            @Override
+            public boolean advance() {
+                if (i + 1 >= count) {
+                    return false;
+                }
+                i++;
+                return true;
+            }
+
+            @Override
+            public double x() {
+                return xSegment.getAtIndex(DOUBLE, i);
+            }
+
+            @Override
+            public double y() {
+                return ySegment.getAtIndex(DOUBLE, i);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.warn("Iterator next() called with no more elements");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(xAt(i), yAt(i));
+                i++;
+                return point;
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package functions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Приближение MathFunction кусочными многочленами Чебышёва на равных отрезках.
+// Отрезок находится арифметически, многочлен вычисляется схемой Кленшоу - без поиска и ветвлений по данным.
+// Вне [from; to] продолжается многочлен крайнего отрезка.
+public final class PiecewiseChebyshevFunction implements MathFunction {
+    private static final Logger logger = LoggerFactory.getLogger(PiecewiseChebyshevFunction.class);
+    public static final int DEFAULT_DEGREE = 8;
+    private static final int MAX_PIECES = 1 << 16;
+
+    private final double from;
+    private final double to;
+    private final int pieces;
+    private final int degree;
+    private final double scale; // pieces / (to - from)
+    private final double[] coefficients; // коэффициенты отрезка p лежат в [p * (degree + 1); (p + 1) * (degree + 1))
+    private final double maxError;
+
+    private PiecewiseChebyshevFunction(double from, double to, int pieces, int degree, double[] coefficients, double maxError) {
+        this.from = from;
+        this.to = to;
+        this.pieces = pieces;
+        this.degree = degree;
+        this.scale = pieces / (to - from);
+        this.coefficients = coefficients;
+        this.maxError = maxError;
+    }
+
+    public static PiecewiseChebyshevFunction compile(MathFunction source, double from, double to, double tolerance) {
+        return compile(source, from, to, tolerance, DEFAULT_DEGREE);
+    }
+
+    // Число отрезков удваивается, пока ошибка в контрольных точках (между узлами Чебышёва) не станет меньше tolerance
+    public static PiecewiseChebyshevFunction compile(MathFunction source, double from, double to, double tolerance, int degree) {
+        if (from > to) {
+            double temp = from;
+            from = to;
+            to = temp;
+        }
+        if (!(from < to)) {
+            logger.error("Invalid approximation interval: [{}, {}]", from, to);
+            throw new IllegalArgumentException("Approximation interval is empty");
+        }
+        if (!(tolerance > 0) || degree < 1) {
+            logger.error("Invalid approximation parameters: tolerance={}, degree={}", tolerance, degree);
+            throw new IllegalArgumentException("Tolerance must be positive and degree at least 1");
+        }
+        PiecewiseChebyshevFunction result = null;
+        for (int pieces = 1; pieces <= MAX_PIECES; pieces *= 2) {
+            result = fit(source, from, to, pieces, degree);
+            if (result.maxError <= tolerance) {
+                logger.info("Chebyshev approximation on [{}, {}]: {} pieces of degree {}, error {}",
+                        from, to, pieces, degree, result.maxError);
+                return result;
+            }
+        }
+        logger.warn("Chebyshev approximation did not reach tolerance {}: error {} with {} pieces",
+                tolerance, result.maxError, MAX_PIECES);
+        return result;
+    }
+
+    private static PiecewiseChebyshevFunction fit(MathFunction source, double from, double to, int pieces, int degree) {
+        int n = degree + 1;
+        double width = (to - from) / pieces;
+        double[] coefficients = new double[pieces * n];
+        double[] values = new double[n];
+        double maxError = 0;
+        for (int p = 0; p < pieces; p++) {
+            double left = from + p * width;
+            for (int j = 0; j < n; j++) {
+                values[j] = source.apply(left + width * (Math.cos(Math.PI * (j + 0.5) / n) + 1) / 2);
+            }
+            int base = p * n;
+            for (int k = 0; k < n; k++) { // дискретное косинус-преобразование значений в узлах
+                double sum = 0;
+                for (int j = 0; j < n; j++) {
+                    sum += values[j] * Math.cos(Math.PI * k * (j + 0.5) / n);
+                }
+                coefficients[base + k] = (k == 0 ? 1.0 : 2.0) * sum / n;
+            }
+            for (int j = 0; j <= n; j++) { // контроль в концах отрезка и посередине между узлами
+                double u = Math.cos(Math.PI * j / n);
+                double error = Math.abs(source.apply(left + width * (u + 1) / 2) - clenshaw(coefficients, base, degree, u));
+                if (!(error <= maxError)) {
+                    maxError = error;
+                }
+            }
+        }
+        return new PiecewiseChebyshevFunction(from, to, pieces, degree, coefficients, maxError);
+    }
+
+    private static double clenshaw(double[] coefficients, int base, int degree, double u) {
+        double b1 = 0;
+        double b2 = 0;
+        double twoU = 2 * u;
+        for (int k = degree; k >= 1; k--) {
+            double b0 = twoU * b1 - b2 + coefficients[base + k];
+            b2 = b1;
+            b1 = b0;
+        }
+        return u * b1 - b2 + coefficients[base];
+    }
+
+    @Override
+    public double apply(double x) {
+        double position = (x - from) * scale;
+        int piece = (int) Math.max(0, Math.min(pieces - 1, position)); // NaN даёт 0, результат всё равно NaN
+        return clenshaw(coefficients, piece * (degree + 1), degree, 2 * (position - piece) - 1);
+    }
+
+    public double leftBound() {
+        return from;
+    }
+
+    public double rightBound() {
+        return to;
+    }
+
+    public int getPieceCount() {
+        return pieces;
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    public int getCoefficientCount() { // занимаемая память в числах double
+        return coefficients.length;
+    }
+
+    public double getMaxError() { // наибольшая ошибка в контрольных точках при построении
+        return maxError;
+    }
+}
@@ -0,0 +1,7 @@
+package functions;
+
+public interface PointCursor { // обход точек без создания объектов Point
+    boolean advance(); // переход к следующей точке; false, если точки закончились
+    double x();
+    double y();
+}
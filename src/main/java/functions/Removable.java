@@ -1,5 +1,15 @@
 package functions;
 
+import java.util.function.DoublePredicate;
+
 public interface Removable {
     void remove(int index);
+
+    default void removeRange(int fromIndex, int toIndex) { // удаляет точки с индексами [fromIndex; toIndex)
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            remove(i);
+        }
+    }
+
+    boolean removeIf(DoublePredicate onX);
 }
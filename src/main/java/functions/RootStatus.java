@@ -0,0 +1,8 @@
+package functions;
+
+// Чем закончился поиск корня из одной начальной точки
+public enum RootStatus {
+    CONVERGED, // метод Ньютона сошёлся
+    BRACKETED, // Ньютон разошёлся, корень найден делением отрезка со сменой знака
+    FAILED     // не сошлись оба метода; в качестве корня возвращается последнее приближение
+}
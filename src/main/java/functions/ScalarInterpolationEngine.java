@@ -0,0 +1,28 @@
+package functions;
+
+public final class ScalarInterpolationEngine implements InterpolationEngine {
+    public static final ScalarInterpolationEngine INSTANCE = new ScalarInterpolationEngine();
+
+    private ScalarInterpolationEngine() {
+    }
+
+    static double valueAt(AbstractTabulatedFunction function, double[] xArray, double[] yArray, int floor, double x) {
+        double leftX = xArray[floor];
+        double rightX = xArray[floor + 1];
+        if (Math.abs(leftX - x) < 1e-12) {
+            return yArray[floor];
+        }
+        if (Math.abs(rightX - x) < 1e-12) {
+            return yArray[floor + 1];
+        }
+        return function.interpolate(x, leftX, rightX, yArray[floor], yArray[floor + 1]); // подкласс может переопределить формулу
+    }
+
+    @Override
+    public void interpolate(AbstractTabulatedFunction function, double[] xArray, double[] yArray, int[] floors,
+                            double[] xValues, int xFrom, double[] results, int resultsFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            results[resultsFrom + i] = valueAt(function, xArray, yArray, floors[i], xValues[xFrom + i]);
+        }
+    }
+}
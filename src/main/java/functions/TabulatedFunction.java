@@ -1,5 +1,12 @@
 package functions;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface TabulatedFunction extends MathFunction, Iterable<Point> {
 
     int getCount();
@@ -10,4 +17,67 @@ public interface TabulatedFunction extends MathFunction, Iterable<Point> {
     int indexOfY(double y);
     double leftBound();
     double rightBound();
+
+    default PointCursor cursor() { // по умолчанию - через индексный доступ
+        return new PointCursor() {
+            private int index = -1;
+
+            @Override
+            public boolean advance() {
+                if (index + 1 >= getCount()) {
+                    return false;
+                }
+                index++;
+                return true;
+            }
+
+            @Override
+            public double x() {
+                return getX(index);
+            }
+
+            @Override
+            public double y() {
+                return getY(index);
+            }
+        };
+    }
+
+    default void forEachPoint(DoubleBiConsumer action) {
+        PointCursor cursor = cursor();
+        while (cursor.advance()) {
+            action.accept(cursor.x(), cursor.y());
+        }
+    }
+
+    @Override
+    default Spliterator<Point> spliterator() { // размер известен заранее; делится пачками через итератор
+        return Spliterators.spliterator(iterator(), getCount(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    default Stream<Point> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<Point> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    default DoubleStream xs() { // по умолчанию - через индексный доступ, делится по диапазону индексов
+        return IntStream.range(0, getCount()).mapToDouble(this::getX);
+    }
+
+    default DoubleStream ys() {
+        return IntStream.range(0, getCount()).mapToDouble(this::getY);
+    }
+
+    default void apply(double[] xValues, double[] results) { // пакетное вычисление по всему массиву
+        apply(xValues, 0, results, 0, xValues.length);
+    }
+
+    default void apply(double[] xValues, int xFrom, double[] results, int resultsFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            results[resultsFrom + i] = apply(xValues[xFrom + i]);
+        }
+    }
 }
@@ -0,0 +1,552 @@
+package functions;
+
+import exceptions.InterpolationException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.DoublePredicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Развёрнутый список: каждый узел хранит блок точек в массивах примитивов.
+// Просмотр идёт почти со скоростью массива, вставка и удаление сдвигают только один блок.
+public class UnrolledLinkedListTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
+    private static final Logger logger = LoggerFactory.getLogger(UnrolledLinkedListTabulatedFunction.class);
+    private static final long serialVersionUID = -4417263908151326827L;
+    public static final int DEFAULT_BLOCK_CAPACITY = 64;
+
+    private static final class Block {
+        private final double[] x;
+        private final double[] y;
+        private int size;
+        private Block next;
+        private Block prev;
+
+        private Block(int capacity) {
+            this.x = new double[capacity];
+            this.y = new double[capacity];
+        }
+    }
+
+    private static final class Position { // блок и глобальный индекс его первой точки
+        private final Block block;
+        private final int start;
+
+        private Position(Block block, int start) {
+            this.block = block;
+            this.start = start;
+        }
+    }
+
+    private final int blockCapacity;
+    private transient Block first; // цепочка блоков пишется плоско в writeObject и собирается заново при чтении
+    private transient Block last;
+    private transient int count;
+    private transient int blockCount;
+    private transient Position position; // последний найденный блок; null после изменения структуры
+
+    public UnrolledLinkedListTabulatedFunction(double[] xValues, double[] yValues) {
+        this(xValues, yValues, DEFAULT_BLOCK_CAPACITY);
+    }
+
+    public UnrolledLinkedListTabulatedFunction(double[] xValues, double[] yValues, int blockCapacity) {
+        this.blockCapacity = checkBlockCapacity(blockCapacity);
+        if (xValues.length < 2) {
+            logger.error("Insufficient points: {}", xValues.length);
+            throw new IllegalArgumentException("The table should be at least 2 points long");
+        }
+        checkLengthIsTheSame(xValues, yValues);
+        checkSorted(xValues);
+        for (int i = 0; i < xValues.length; i++) {
+            append(xValues[i], yValues[i]);
+        }
+        logger.info("UnrolledLinkedListTabulatedFunction created with {} points in {} blocks", count, blockCount);
+    }
+
+    public UnrolledLinkedListTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) {
+        this(source, xFrom, xTo, count, DEFAULT_BLOCK_CAPACITY);
+    }
+
+    public UnrolledLinkedListTabulatedFunction(MathFunction source, double xFrom, double xTo, int count, int blockCapacity) {
+        this.blockCapacity = checkBlockCapacity(blockCapacity);
+        if (count < 2) {
+            logger.error("Insufficient points requested: {}", count);
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        if (xFrom > xTo) {
+            double temp = xFrom;
+            xFrom = xTo;
+            xTo = temp;
+        }
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            double x = (xFrom == xTo) ? xFrom : xFrom + i * step;
+            append(x, source.apply(x));
+        }
+    }
+
+    // Формат: поля по умолчанию (ёмкость блока), число точек, затем count значений x и count значений y.
+    // При чтении блоки заполняются целиком, как в конструкторах, независимо от заполненности исходных блоков.
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(count);
+        for (Block block = first; block != null; block = block.next) {
+            for (int i = 0; i < block.size; i++) {
+                out.writeDouble(block.x[i]);
+            }
+        }
+        for (Block block = first; block != null; block = block.next) {
+            for (int i = 0; i < block.size; i++) {
+                out.writeDouble(block.y[i]);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int size = in.readInt();
+        if (size < 2 || blockCapacity < 4) {
+            logger.error("Corrupted serialized unrolled list function: count={}, blockCapacity={}", size, blockCapacity);
+            throw new InvalidObjectException("Corrupted tabulated function: count=" + size + ", blockCapacity=" + blockCapacity);
+        }
+        double[] xValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = in.readDouble();
+        }
+        for (int i = 0; i < size; i++) {
+            append(xValues[i], in.readDouble());
+        }
+    }
+
+    private static int checkBlockCapacity(int blockCapacity) {
+        if (blockCapacity < 4) {
+            logger.error("Block capacity is too small: {}", blockCapacity);
+            throw new IllegalArgumentException("Block capacity must be at least 4");
+        }
+        return blockCapacity;
+    }
+
+    private void append(double x, double y) { // конструкторы заполняют блоки целиком
+        if (last == null || last.size == blockCapacity) {
+            linkAfter(last, new Block(blockCapacity));
+        }
+        last.x[last.size] = x;
+        last.y[last.size] = y;
+        last.size++;
+        count++;
+    }
+
+    private void linkAfter(Block before, Block block) { // before == null - в начало
+        block.prev = before;
+        block.next = (before == null) ? first : before.next;
+        if (block.next != null) {
+            block.next.prev = block;
+        } else {
+            last = block;
+        }
+        if (before != null) {
+            before.next = block;
+        } else {
+            first = block;
+        }
+        blockCount++;
+    }
+
+    private void unlink(Block block) {
+        if (block.prev != null) {
+            block.prev.next = block.next;
+        } else {
+            first = block.next;
+        }
+        if (block.next != null) {
+            block.next.prev = block.prev;
+        } else {
+            last = block.prev;
+        }
+        blockCount--;
+    }
+
+    private Position locate(int index) { // блок, содержащий точку index; идём от ближайшего известного места
+        Position cached = position;
+        Block block;
+        int start;
+        if (cached != null && index >= cached.start) {
+            block = cached.block;
+            start = cached.start;
+        } else if (cached != null && cached.start - index < index) {
+            block = cached.block;
+            start = cached.start;
+            while (start > index) {
+                block = block.prev;
+                start -= block.size;
+            }
+        } else {
+            block = first;
+            start = 0;
+        }
+        while (index >= start + block.size) {
+            start += block.size;
+            block = block.next;
+        }
+        if (cached == null || cached.block != block) {
+            position = new Position(block, start);
+            return position;
+        }
+        return cached;
+    }
+
+    private double xAt(int index) {
+        Position p = locate(index);
+        return p.block.x[index - p.start];
+    }
+
+    private double yAt(int index) {
+        Position p = locate(index);
+        return p.block.y[index - p.start];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("Index out of bounds: {} (count={})", index, count);
+            throw new IllegalArgumentException("Index out of bounds: " + index);
+        }
+    }
+
+    public int getBlockCapacity() {
+        return blockCapacity;
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return xAt(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return yAt(index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        checkIndex(index);
+        Position p = locate(index);
+        p.block.y[index - p.start] = value;
+    }
+
+    private int insertionIndexOf(double x) { // первый x(i) >= x: пропускаем блоки целиком, внутри - бинарный поиск
+        Block block = first;
+        int start = 0;
+        while (block.next != null && block.x[block.size - 1] < x) {
+            start += block.size;
+            block = block.next;
+        }
+        int left = 0;
+        int right = block.size;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (block.x[mid] < x) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        position = new Position(block, start);
+        return start + left;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = insertionIndexOf(x);
+        int found = -1;
+        for (int i = index - 1; i >= 0 && Math.abs(xAt(i) - x) < 1e-12; i--) {
+            found = i; //самый левый из совпадающих
+        }
+        if (found != -1) {
+            return found;
+        }
+        if (index < count && Math.abs(xAt(index) - x) < 1e-12) {
+            return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        int index = 0;
+        for (Block block = first; block != null; block = block.next) {
+            for (int i = 0; i < block.size; i++, index++) {
+                if (Math.abs(block.y[i] - y) < 1e-12) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return first.x[0];
+    }
+
+    @Override
+    public double rightBound() {
+        return last.x[last.size - 1];
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            logger.error("X={} is less than left bound {}", x, leftBound());
+            throw new IllegalArgumentException("x is less than left bound: " + x);
+        }
+        if (x > rightBound()) return count;
+        Block block = first;
+        int start = 0;
+        while (block.next != null && block.next.x[0] <= x) {
+            start += block.size;
+            block = block.next;
+        }
+        int left = 0; // последний x(i) <= x внутри блока
+        int right = block.size - 1;
+        while (left < right) {
+            int mid = (left + right + 1) >>> 1;
+            if (block.x[mid] <= x) {
+                left = mid;
+            } else {
+                right = mid - 1;
+            }
+        }
+        position = new Position(block, start); // getX(floor) и getX(floor + 1) в apply найдут блок сразу
+        return start + left;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xAt(0), xAt(1), yAt(0), yAt(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, xAt(count - 2), xAt(count - 1), yAt(count - 2), yAt(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            logger.error("Invalid floor index for interpolation: {} (count={})", floorIndex, count);
+            throw new InterpolationException("Incorrect index for interpolation");
+        }
+        double leftX = xAt(floorIndex);
+        double rightX = xAt(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            logger.error("X={} outside interpolation interval [{}, {}]", x, leftX, rightX);
+            throw new InterpolationException("Point x is outside the interpolation interval");
+        }
+        return interpolate(x, leftX, rightX, yAt(floorIndex), yAt(floorIndex + 1));
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        int index = insertionIndexOf(x);
+        if (index > 0 && Math.abs(xAt(index - 1) - x) < 1e-12) {
+            setY(index - 1, y); //замена значения
+            return;
+        }
+        if (index < count && Math.abs(xAt(index) - x) < 1e-12) {
+            setY(index, y);
+            return;
+        }
+        Block block;
+        int offset;
+        if (index == count) {
+            block = last;
+            offset = last.size;
+        } else {
+            Position p = locate(index);
+            block = p.block;
+            offset = index - p.start;
+        }
+        if (block.size == blockCapacity) { // полный блок делится пополам
+            Block upper = new Block(blockCapacity);
+            int half = block.size / 2;
+            upper.size = block.size - half;
+            System.arraycopy(block.x, half, upper.x, 0, upper.size);
+            System.arraycopy(block.y, half, upper.y, 0, upper.size);
+            block.size = half;
+            linkAfter(block, upper);
+            if (offset > half) {
+                block = upper;
+                offset -= half;
+            }
+        }
+        System.arraycopy(block.x, offset, block.x, offset + 1, block.size - offset); //сдвиг только внутри блока
+        System.arraycopy(block.y, offset, block.y, offset + 1, block.size - offset);
+        block.x[offset] = x;
+        block.y[offset] = y;
+        block.size++;
+        count++;
+        position = null;
+    }
+
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("Remove index out of bounds: {} (count={})", index, count);
+            throw new IllegalArgumentException("Index out of bounds: " + index);
+        }
+        if (count == 2) {
+            logger.error("Cannot remove point - minimum 2 points required");
+            throw new IllegalStateException("Cannot remove element - minimum 2 points required");
+        }
+        Position p = locate(index);
+        Block block = p.block;
+        int offset = index - p.start;
+        System.arraycopy(block.x, offset + 1, block.x, offset, block.size - offset - 1);
+        System.arraycopy(block.y, offset + 1, block.y, offset, block.size - offset - 1);
+        block.size--;
+        count--;
+        position = null;
+        if (block.size == 0) {
+            unlink(block);
+        } else if (block.size < blockCapacity / 4) { // почти пустой блок сливается с соседом, чтобы не терять плотность
+            Block neighbour = (block.next != null) ? block.next : block.prev;
+            if (neighbour != null && block.size + neighbour.size <= blockCapacity) {
+                Block left = (neighbour == block.next) ? block : neighbour;
+                Block right = left.next;
+                System.arraycopy(right.x, 0, left.x, left.size, right.size);
+                System.arraycopy(right.y, 0, left.y, left.size, right.size);
+                left.size += right.size;
+                unlink(right);
+            }
+        }
+    }
+
+    @Override
+    public boolean removeIf(DoublePredicate onX) {
+        boolean[] removed = new boolean[count]; // предикат вызывается ровно один раз на точку
+        int removedCount = 0;
+        int index = 0;
+        for (Block block = first; block != null; block = block.next) {
+            for (int i = 0; i < block.size; i++, index++) {
+                if (onX.test(block.x[i])) {
+                    removed[index] = true;
+                    removedCount++;
+                }
+            }
+        }
+        if (removedCount == 0) {
+            return false;
+        }
+        if (count - removedCount < 2) {
+            logger.error("Cannot remove {} points - minimum 2 points required", removedCount);
+            throw new IllegalStateException("Cannot remove elements - minimum 2 points required");
+        }
+        // уплотнение на месте за один проход: оставшиеся точки переписываются в те же блоки, заполняя их целиком.
+        // Позиция записи никогда не обгоняет позицию чтения, поэтому непрочитанные точки не затираются
+        Block target = first;
+        int targetSize = 0;
+        index = 0;
+        for (Block block = first; block != null; block = block.next) {
+            int size = block.size;
+            for (int i = 0; i < size; i++) {
+                if (!removed[index++]) {
+                    if (targetSize == blockCapacity) {
+                        target.size = targetSize;
+                        target = target.next;
+                        targetSize = 0;
+                    }
+                    target.x[targetSize] = block.x[i];
+                    target.y[targetSize] = block.y[i];
+                    targetSize++;
+                }
+            }
+        }
+        target.size = targetSize;
+        while (target.next != null) {
+            unlink(target.next);
+        }
+        count -= removedCount;
+        position = null;
+        return true;
+    }
+
+    @Override
+    public PointCursor cursor() {
+        return new PointCursor() {
+            private Block block = null;
+            private int offset = -1;
+
+            @Override
+            public boolean advance() {
+                if (block == null) {
+                    block = first;
+                    offset = 0;
+                    return block != null;
+                }
+                if (offset + 1 < block.size) {
+                    offset++;
+                    return true;
+                }
+                if (block.next == null) {
+                    return false;
+                }
+                block = block.next;
+                offset = 0;
+                return true;
+            }
+
+            @Override
+            public double x() {
+                return block.x[offset];
+            }
+
+            @Override
+            public double y() {
+                return block.y[offset];
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<>() {
+            private Block block = first;
+            private int offset = 0;
+
+            @Override
+            public boolean hasNext() {
+                return block != null && offset < block.size;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.warn("Iterator next() called with no more elements");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(block.x[offset], block.y[offset]);
+                offset++;
+                if (offset == block.size) {
+                    block = block.next;
+                    offset = 0;
+                }
+                return point;
+            }
+        };
+    }
+}
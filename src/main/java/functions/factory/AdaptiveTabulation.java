@@ -0,0 +1,63 @@
+package functions.factory;
+
+import functions.TabulatedFunction;
+
+// Результат адаптивной дискретизации и сравнение с равномерной сеткой той же точности
+public class AdaptiveTabulation {
+    private final TabulatedFunction function;
+    private final int pointCount;
+    private final int evaluations;
+    private final long uniformPointCount;
+    private final double maxError;
+    private final double tolerance;
+
+    AdaptiveTabulation(TabulatedFunction function, int pointCount, int evaluations,
+                       long uniformPointCount, double maxError, double tolerance) {
+        this.function = function;
+        this.pointCount = pointCount;
+        this.evaluations = evaluations;
+        this.uniformPointCount = uniformPointCount;
+        this.maxError = maxError;
+        this.tolerance = tolerance;
+    }
+
+    public TabulatedFunction getFunction() {
+        return function;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    public int getEvaluations() { // каждое вычисление, включая проверочные середины, становится узлом
+        return evaluations;
+    }
+
+    public long getUniformPointCount() { // равномерная сетка делает ровно столько же вычислений, сколько точек
+        return uniformPointCount;
+    }
+
+    public long getSavedPoints() {
+        return uniformPointCount - pointCount;
+    }
+
+    public long getSavedEvaluations() {
+        return uniformPointCount - evaluations;
+    }
+
+    public double getMaxError() { // наибольшее отклонение середины принятого интервала от хорды
+        return maxError;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveTabulation points = " + pointCount + ", evaluations = " + evaluations
+                + ", uniform points = " + uniformPointCount + ", saved points = " + getSavedPoints()
+                + ", saved evaluations = " + getSavedEvaluations() + ", max error = " + maxError
+                + ", tolerance = " + tolerance;
+    }
+}
@@ -0,0 +1,130 @@
+package functions.factory;
+
+import functions.AbstractTabulatedFunction;
+import functions.MathFunction;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Адаптивная дискретизация: интервал делится пополам, пока ошибка линейной интерполяции в его середине
+// больше допуска. Середина принятого интервала тоже становится узлом, поэтому каждое вычисление source
+// даёт точку таблицы. Плоские участки остаются редкими, изогнутые - густыми.
+public class AdaptiveTabulationBuilder {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveTabulationBuilder.class);
+    private final MathFunction source;
+    private double xFrom;
+    private double xTo;
+    private double tolerance = 1e-6;
+    private int minDepth = 4; // обязательные деления: защита от совпадения середины с узлом периодической функции
+    private int maxDepth = 20;
+    private TabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+
+    // состояние одного вызова build()
+    private double[] xValues;
+    private double[] yValues;
+    private int size;
+    private int evaluations;
+    private double maxError;
+    private double minGap; // наименьшее расстояние между соседними узлами
+
+    public AdaptiveTabulationBuilder(MathFunction source) {
+        this.source = source;
+    }
+
+    public AdaptiveTabulationBuilder interval(double xFrom, double xTo) {
+        this.xFrom = Math.min(xFrom, xTo);
+        this.xTo = Math.max(xFrom, xTo);
+        return this;
+    }
+
+    public AdaptiveTabulationBuilder tolerance(double tolerance) {
+        if (!(tolerance > 0)) {
+            logger.error("Tolerance must be positive: {}", tolerance);
+            throw new IllegalArgumentException("Tolerance must be positive");
+        }
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    public AdaptiveTabulationBuilder depth(int minDepth, int maxDepth) {
+        if (minDepth < 0 || maxDepth < minDepth || maxDepth > 30) {
+            logger.error("Invalid refinement depth: min={}, max={}", minDepth, maxDepth);
+            throw new IllegalArgumentException("Refinement depth must satisfy 0 <= min <= max <= 30");
+        }
+        this.minDepth = minDepth;
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    public AdaptiveTabulationBuilder factory(TabulatedFunctionFactory factory) {
+        this.factory = factory;
+        return this;
+    }
+
+    public AdaptiveTabulation build() {
+        if (!(xFrom < xTo)) {
+            logger.error("Invalid adaptive tabulation interval: [{}, {}]", xFrom, xTo);
+            throw new IllegalArgumentException("Tabulation interval is empty");
+        }
+        xValues = new double[64];
+        yValues = new double[64];
+        size = 0;
+        evaluations = 0;
+        maxError = 0;
+        minGap = xTo - xFrom;
+
+        double left = evaluate(xFrom);
+        double right = evaluate(xTo);
+        append(xFrom, left);
+        refine(xFrom, xTo, left, right, 0);
+
+        // равномерной сетке той же точности нужен шаг самого узкого промежутка между узлами;
+        // все промежутки не уже него, поэтому адаптивная таблица никогда не длиннее равномерной
+        long uniformCount = (long) Math.ceil((xTo - xFrom) / minGap) + 1;
+        AdaptiveTabulation result = new AdaptiveTabulation(
+                factory.createOwned(xValues, yValues, size, false),
+                size, evaluations, uniformCount, maxError, tolerance);
+        logger.info("Adaptive tabulation: {} points, {} evaluations, uniform equivalent {} points",
+                size, evaluations, uniformCount);
+        xValues = null;
+        yValues = null;
+        return result;
+    }
+
+    private void refine(double a, double b, double fa, double fb, int depth) {
+        double middle = a + (b - a) / 2;
+        if (middle <= a || middle >= b) { // точность double исчерпана - дальше делить нечего
+            minGap = Math.min(minGap, b - a);
+            append(b, fb);
+            return;
+        }
+        double fm = evaluate(middle);
+        double error = Math.abs(fm - AbstractTabulatedFunction.linearInterpolation(middle, a, b, fa, fb));
+        if (depth >= maxDepth || (depth >= minDepth && error <= tolerance)) {
+            if (!(error <= maxError)) {
+                maxError = error; // NaN тоже попадает в отчёт
+            }
+            minGap = Math.min(minGap, Math.min(middle - a, b - middle));
+            append(middle, fm); // середина уже вычислена: сохраняем её узлом, а не выбрасываем
+            append(b, fb);
+            return;
+        }
+        refine(a, middle, fa, fm, depth + 1);
+        refine(middle, b, fm, fb, depth + 1);
+    }
+
+    private double evaluate(double x) {
+        evaluations++;
+        return source.apply(x);
+    }
+
+    private void append(double x, double y) {
+        if (size == xValues.length) {
+            xValues = Arrays.copyOf(xValues, size * 2);
+            yValues = Arrays.copyOf(yValues, size * 2);
+        }
+        xValues[size] = x;
+        yValues[size] = y;
+        size++;
+    }
+}
@@ -8,4 +8,14 @@ public class ArrayTabulatedFunctionFactory implements TabulatedFunctionFactory {
     public TabulatedFunction create(double[] xValues, double[] yValues) {
         return new ArrayTabulatedFunction(xValues, yValues);
     }
+
+    @Override
+    public TabulatedFunction createOwned(double[] xValues, double[] yValues, boolean validate) {
+        return ArrayTabulatedFunction.wrap(xValues, yValues, validate);
+    }
+
+    @Override
+    public TabulatedFunction createOwned(double[] xValues, double[] yValues, int count, boolean validate) {
+        return ArrayTabulatedFunction.wrap(xValues, yValues, count, validate);
+    }
 }
\ No newline at end of file
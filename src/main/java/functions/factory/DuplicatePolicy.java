@@ -0,0 +1,9 @@
+package functions.factory;
+
+// Как объединять точки, x которых отличаются меньше чем на 1e-12
+public enum DuplicatePolicy {
+    LAST_WINS, // y последней точки серии; равные x идут в исходном порядке, близкие - по возрастанию x
+    AVERAGE,
+    MIN,
+    MAX
+}
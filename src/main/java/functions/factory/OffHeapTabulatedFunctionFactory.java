@@ -0,0 +1,36 @@
+package functions.factory;
+
+import functions.OffHeapTabulatedFunction;
+import functions.TabulatedFunction;
+import java.lang.foreign.Arena;
+
+public class OffHeapTabulatedFunctionFactory implements TabulatedFunctionFactory, AutoCloseable {
+    private final Arena arena;
+    private final boolean ownsArena;
+
+    public OffHeapTabulatedFunctionFactory() { // собственная арена, освобождается в close()
+        this.arena = Arena.ofShared();
+        this.ownsArena = true;
+    }
+
+    public OffHeapTabulatedFunctionFactory(Arena arena) { // временем жизни памяти управляет вызывающий
+        this.arena = arena;
+        this.ownsArena = false;
+    }
+
+    public Arena getArena() {
+        return arena;
+    }
+
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new OffHeapTabulatedFunction(arena, xValues, yValues);
+    }
+
+    @Override
+    public void close() { // после закрытия все созданные фабрикой функции становятся недоступны
+        if (ownsArena) {
+            arena.close();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package functions.factory;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Устойчивая сортировка слиянием пар (x, y) по x прямо в массивах примитивов, без объектов Point.
+// Большие массивы сортируются параллельно в ForkJoinPool; буфер для слияния выделяется один раз.
+final class PointSorter {
+    private static final Logger logger = LoggerFactory.getLogger(PointSorter.class);
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private PointSorter() {
+    }
+
+    // Проверяет, сортирует и сливает повторы на месте; возвращает число оставшихся точек в начале массивов
+    static int sortAndMerge(double[] xValues, double[] yValues, DuplicatePolicy policy) {
+        if (xValues.length != yValues.length) {
+            logger.error("Arrays have different lengths: {} and {}", xValues.length, yValues.length);
+            throw new IllegalArgumentException("Arrays have different lengths: " + xValues.length + " and " + yValues.length);
+        }
+        if (policy == null) {
+            logger.error("Duplicate policy is null");
+            throw new IllegalArgumentException("Duplicate policy is null");
+        }
+        boolean sorted = true;
+        for (int i = 0; i < xValues.length; i++) {
+            if (!Double.isFinite(xValues[i])) { // бесконечности не сливаются по разности, а результат не проверяется
+                logger.error("Non-finite x value {} at index {}", xValues[i], i);
+                throw new IllegalArgumentException("X value is not finite at index " + i + ": " + xValues[i]);
+            }
+            if (i > 0 && xValues[i] < xValues[i - 1]) {
+                sorted = false;
+            }
+        }
+        if (!sorted) {
+            sort(xValues, yValues); // сортировка устойчивая: порядок равных x совпадает с исходным
+        }
+        int size = 0;
+        for (int i = 0; i < xValues.length; ) {
+            double x = xValues[i];
+            double y = yValues[i];
+            int runLength = 1;
+            int j = i + 1;
+            for (; j < xValues.length && xValues[j] - x < 1e-12; j++) { // сравнение с началом серии, а не с соседом
+                double next = yValues[j];
+                switch (policy) {
+                    case LAST_WINS -> y = next;
+                    case AVERAGE -> y += next;
+                    case MIN -> y = Math.min(y, next);
+                    case MAX -> y = Math.max(y, next);
+                }
+                runLength++;
+            }
+            xValues[size] = x; // слитая точка получает x первой точки серии
+            yValues[size] = policy == DuplicatePolicy.AVERAGE ? y / runLength : y;
+            size++;
+            i = j;
+        }
+        if (size < 2) {
+            logger.error("Only {} distinct points after merging duplicates", size);
+            throw new IllegalArgumentException("At least 2 distinct points required, got " + size);
+        }
+        return size;
+    }
+
+    static void sort(double[] xValues, double[] yValues) {
+        int n = xValues.length;
+        if (n < 2) {
+            return;
+        }
+        double[] xBuffer = new double[n];
+        double[] yBuffer = new double[n];
+        SortTask task = new SortTask(xValues, yValues, xBuffer, yBuffer, 0, n);
+        if (n <= SEQUENTIAL_THRESHOLD) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = -6407921235380371842L;
+        private final double[] x;
+        private final double[] y;
+        private final double[] xBuffer;
+        private final double[] yBuffer;
+        private final int from;
+        private final int to;
+
+        private SortTask(double[] x, double[] y, double[] xBuffer, double[] yBuffer, int from, int to) {
+            this.x = x;
+            this.y = y;
+            this.xBuffer = xBuffer;
+            this.yBuffer = yBuffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= INSERTION_THRESHOLD) {
+                insertionSort();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            SortTask left = new SortTask(x, y, xBuffer, yBuffer, from, mid);
+            SortTask right = new SortTask(x, y, xBuffer, yBuffer, mid, to);
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+            if (Double.compare(x[mid - 1], x[mid]) <= 0) {
+                return; // половины уже идут по порядку
+            }
+            System.arraycopy(x, from, xBuffer, from, to - from);
+            System.arraycopy(y, from, yBuffer, from, to - from);
+            int i = from;
+            int j = mid;
+            for (int k = from; k < to; k++) { // при равенстве берём левую половину - порядок сохраняется
+                if (j >= to || (i < mid && Double.compare(xBuffer[i], xBuffer[j]) <= 0)) {
+                    x[k] = xBuffer[i];
+                    y[k] = yBuffer[i++];
+                } else {
+                    x[k] = xBuffer[j];
+                    y[k] = yBuffer[j++];
+                }
+            }
+        }
+
+        private void insertionSort() {
+            for (int i = from + 1; i < to; i++) {
+                double keyX = x[i];
+                double keyY = y[i];
+                int j = i - 1;
+                while (j >= from && Double.compare(x[j], keyX) > 0) {
+                    x[j + 1] = x[j];
+                    y[j + 1] = y[j];
+                    j--;
+                }
+                x[j + 1] = keyX;
+                y[j + 1] = keyY;
+            }
+        }
+    }
+}
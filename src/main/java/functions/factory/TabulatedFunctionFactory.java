@@ -1,7 +1,86 @@
 package functions.factory;
 
+import functions.MathFunction;
 import functions.TabulatedFunction;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 public interface TabulatedFunctionFactory {
+    int TABULATION_CHUNK = 4096; // минимальный блок индексов на одну задачу
+
     TabulatedFunction create(double[] xValues, double[] yValues);
+
+    // Вызывающий передаёт массивы во владение фабрике и больше их не использует, поэтому копирование не нужно.
+    // Реализация по умолчанию копирует и проверяет, как create.
+    default TabulatedFunction createOwned(double[] xValues, double[] yValues, boolean validate) {
+        return create(xValues, yValues);
+    }
+
+    default TabulatedFunction createOwned(double[] xValues, double[] yValues) {
+        return createOwned(xValues, yValues, true);
+    }
+
+    // Используются только первые count точек. Реализация по умолчанию обрезает массивы копированием,
+    // реализации на массивах принимают их как есть
+    default TabulatedFunction createOwned(double[] xValues, double[] yValues, int count, boolean validate) {
+        if (count < xValues.length || count < yValues.length) {
+            xValues = Arrays.copyOf(xValues, count);
+            yValues = Arrays.copyOf(yValues, count);
+        }
+        return createOwned(xValues, yValues, validate);
+    }
+
+    // Точки в произвольном порядке, возможно с повторами x. Массивы, как и в createOwned, переходят во владение фабрике:
+    // пары (x, y) сортируются на месте (большие массивы - параллельно), серии x в пределах 1e-12 от первого x серии
+    // сливаются по policy
+    default TabulatedFunction createFromUnsorted(double[] xValues, double[] yValues, DuplicatePolicy policy) {
+        int size = PointSorter.sortAndMerge(xValues, yValues, policy);
+        return createOwned(xValues, yValues, size, false);
+    }
+
+    default TabulatedFunction tabulate(MathFunction source, double xFrom, double xTo, int count) {
+        double[] xValues = TabulationGrid.of(xFrom, xTo, count);
+        double[] yValues = new double[count];
+        if (TabulationGrid.isDegenerate(xValues)) {
+            Arrays.fill(yValues, source.apply(xValues[0]));
+            return createOwned(xValues, yValues, false);
+        }
+        for (int i = 0; i < count; i++) {
+            yValues[i] = source.apply(xValues[i]);
+        }
+        return createOwned(xValues, yValues, false);
+    }
+
+    // Диапазон индексов делится на блоки, каждый блок вычисляется отдельной задачей executor'а.
+    // Узлы и значения те же, что при последовательной дискретизации: каждый y(i) считается ровно один раз от того же x(i).
+    default TabulatedFunction tabulate(MathFunction source, double xFrom, double xTo, int count, Executor executor) {
+        double[] xValues = TabulationGrid.of(xFrom, xTo, count);
+        double[] yValues = new double[count];
+        if (TabulationGrid.isDegenerate(xValues)) {
+            Arrays.fill(yValues, source.apply(xValues[0]));
+            return createOwned(xValues, yValues, false);
+        }
+        int chunk = Math.max(TABULATION_CHUNK, count / 64 + 1);
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[(count + chunk - 1) / chunk];
+        for (int t = 0; t < tasks.length; t++) {
+            int from = t * chunk;
+            int to = Math.min(count, from + chunk);
+            tasks[t] = CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    yValues[i] = source.apply(xValues[i]);
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(tasks).join(); // join гарантирует видимость записей в yValues
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return createOwned(xValues, yValues, false);
+    }
 }
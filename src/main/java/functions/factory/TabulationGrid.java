@@ -0,0 +1,40 @@
+package functions.factory;
+
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Та же сетка, что в ArrayTabulatedFunction(source, xFrom, xTo, count): концы упорядочиваются,
+// при xFrom == xTo все узлы совпадают с xFrom
+final class TabulationGrid {
+    private static final Logger logger = LoggerFactory.getLogger(TabulationGrid.class);
+
+    private TabulationGrid() {
+    }
+
+    static double[] of(double xFrom, double xTo, int count) {
+        if (count < 2) {
+            logger.error("Insufficient points requested: {}", count);
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        if (xFrom > xTo) {
+            double temp = xFrom;
+            xFrom = xTo;
+            xTo = temp;
+        }
+        double[] xValues = new double[count];
+        if (xFrom == xTo) {
+            Arrays.fill(xValues, xFrom);
+            return xValues;
+        }
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            xValues[i] = xFrom + i * step;
+        }
+        return xValues;
+    }
+
+    static boolean isDegenerate(double[] xValues) { // все узлы совпадают: source вычисляется один раз, как в конструкторе
+        return xValues[0] == xValues[xValues.length - 1];
+    }
+}
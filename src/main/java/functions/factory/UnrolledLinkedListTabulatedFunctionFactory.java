@@ -0,0 +1,25 @@
+package functions.factory;
+
+import functions.TabulatedFunction;
+import functions.UnrolledLinkedListTabulatedFunction;
+
+public class UnrolledLinkedListTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    private final int blockCapacity;
+
+    public UnrolledLinkedListTabulatedFunctionFactory() {
+        this(UnrolledLinkedListTabulatedFunction.DEFAULT_BLOCK_CAPACITY);
+    }
+
+    public UnrolledLinkedListTabulatedFunctionFactory(int blockCapacity) {
+        this.blockCapacity = blockCapacity;
+    }
+
+    public int getBlockCapacity() {
+        return blockCapacity;
+    }
+
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new UnrolledLinkedListTabulatedFunction(xValues, yValues, blockCapacity);
+    }
+}
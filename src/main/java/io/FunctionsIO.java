@@ -9,7 +9,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import functions.Point;
+import functions.PointCursor;
 import java.io.BufferedWriter;
 import java.io.PrintWriter;
 import java.io.BufferedReader;
@@ -29,9 +29,10 @@ public final class FunctionsIO {
         logger.debug("Writing tabulated function to binary stream ({} points)", function.getCount());
         DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
         dataOutputStream.writeInt(function.getCount());
-        for (Point point : function) {
-            dataOutputStream.writeDouble(point.x);
-            dataOutputStream.writeDouble(point.y);
+        PointCursor cursor = function.cursor();
+        while (cursor.advance()) {
+            dataOutputStream.writeDouble(cursor.x());
+            dataOutputStream.writeDouble(cursor.y());
         }
         outputStream.flush();
         logger.trace("Successfully wrote {} points to binary stream", function.getCount());
@@ -47,7 +48,7 @@ public final class FunctionsIO {
             xValues[i] = dataInputStream.readDouble();
             yValues[i] = dataInputStream.readDouble();
         }
-        return factory.create(xValues, yValues);
+        return factory.createOwned(xValues, yValues);
     }
 
     public static TabulatedFunction deserialize(BufferedInputStream stream) throws IOException, ClassNotFoundException {
@@ -63,9 +64,7 @@ public final class FunctionsIO {
     public static void writeTabulatedFunction(BufferedWriter writer, TabulatedFunction function) throws IOException {
         PrintWriter printWriter = new PrintWriter(writer);
         printWriter.println(function.getCount());
-        for (Point point : function) {
-            printWriter.printf("%f %f\n", point.x, point.y);
-        }
+        function.forEachPoint((x, y) -> printWriter.printf("%f %f\n", x, y));
         printWriter.flush();
     }
     public static TabulatedFunction readTabulatedFunction(BufferedReader reader, TabulatedFunctionFactory factory) throws IOException {
@@ -88,6 +87,6 @@ public final class FunctionsIO {
                 throw new IOException(e);
             }
         }
-        return factory.create(xValues, yValues);
+        return factory.createOwned(xValues, yValues);
     }
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+package io;
+
+import exceptions.InterpolationException;
+import functions.AbstractTabulatedFunction;
+import functions.Point;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Табулированная функция только для чтения поверх файла в формате FunctionsIO.writeTabulatedFunction:
+// int count, затем пары (x, y) типа double, всё в big-endian. Данные читаются прямо из отображённой памяти.
+public final class MappedTabulatedFunction extends AbstractTabulatedFunction implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(MappedTabulatedFunction.class);
+    private static final ValueLayout.OfInt COUNT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final long HEADER_SIZE = Integer.BYTES;
+    private static final long POINT_SIZE = 2L * Double.BYTES;
+
+    private final Arena arena;
+    private final boolean ownsArena;
+    private final MemorySegment segment;
+    private final int count;
+
+    private MappedTabulatedFunction(Arena arena, boolean ownsArena, MemorySegment segment, int count) {
+        this.arena = arena;
+        this.ownsArena = ownsArena;
+        this.segment = segment;
+        this.count = count;
+    }
+
+    public static MappedTabulatedFunction open(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try {
+            return map(path, arena, true);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public static MappedTabulatedFunction open(Path path, Arena arena) throws IOException {
+        return map(path, arena, false);
+    }
+
+    private static MappedTabulatedFunction map(Path path, Arena arena, boolean ownsArena) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                logger.error("File {} is too small for a tabulated function header: {} bytes", path, size);
+                throw new IOException("File is too small: " + size + " bytes");
+            }
+            // отображение не копирует данные: страницы подгружаются из кэша ОС при обращении
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+            int count = segment.get(COUNT, 0);
+            if (count < 2 || size < HEADER_SIZE + count * POINT_SIZE) {
+                logger.error("File {} declares {} points but has {} bytes", path, count, size);
+                throw new IOException("Corrupted tabulated function file: count=" + count + ", size=" + size);
+            }
+            logger.info("Mapped tabulated function with {} points from {}", count, path);
+            return new MappedTabulatedFunction(arena, ownsArena, segment, count);
+        }
+    }
+
+    private double xAt(int index) {
+        return segment.get(DOUBLE, HEADER_SIZE + index * POINT_SIZE);
+    }
+
+    private double yAt(int index) {
+        return segment.get(DOUBLE, HEADER_SIZE + index * POINT_SIZE + Double.BYTES);
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("GetX index out of bounds: {} (count={})", index, count);
+            throw new IllegalArgumentException("Index out of bounds: " + index);
+        }
+        return xAt(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("GetY index out of bounds: {} (count={})", index, count);
+            throw new IllegalArgumentException("Index out of bounds: " + index);
+        }
+        return yAt(index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        logger.error("Attempt to modify read-only mapped function at index {}", index);
+        throw new UnsupportedOperationException("Mapped tabulated function is read-only");
+    }
+
+    private int insertionIndexOf(double x) { //бинарный поиск первого x(i) >= x
+        int left = 0;
+        int right = count;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (xAt(mid) < x) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = insertionIndexOf(x);
+        if (index > 0 && Math.abs(xAt(index - 1) - x) < 1e-12) {
+            return index - 1;
+        }
+        if (index < count && Math.abs(xAt(index) - x) < 1e-12) {
+            return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(yAt(i) - y) < 1e-12) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xAt(0);
+    }
+
+    @Override
+    public double rightBound() {
+        return xAt(count - 1);
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < xAt(0)) {
+            logger.error("X={} is less than left bound {}", x, xAt(0));
+            throw new IllegalArgumentException("x is less than left bound: " + x);
+        }
+        if (x > xAt(count - 1)) return count;
+        int index = insertionIndexOf(x);
+        if (index < count && Math.abs(xAt(index) - x) < 1e-12) {
+            return index;
+        }
+        return index - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xAt(0), xAt(1), yAt(0), yAt(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, xAt(count - 2), xAt(count - 1), yAt(count - 2), yAt(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            logger.error("Invalid floor index for interpolation: {} (count={})", floorIndex, count);
+            throw new InterpolationException("Incorrect index for interpolation");
+        }
+        double leftX = xAt(floorIndex);
+        double rightX = xAt(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            logger.error("X={} outside interpolation interval [{}, {}]", x, leftX, rightX);
+            throw new InterpolationException("Point x is outside the interpolation interval");
+        }
+        return interpolate(x, leftX, rightX, yAt(floorIndex), yAt(floorIndex + 1));
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.warn("Iterator next() called with no more elements");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(xAt(i), yAt(i));
+                i++;
+                return point;
+            }
+        };
+    }
+
+    @Override
+    public void close() { // снимает отображение, если арена была создана в open(path)
+        if (ownsArena) {
+            arena.close();
+        }
+    }
+}
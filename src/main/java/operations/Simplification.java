@@ -0,0 +1,42 @@
+package operations;
+
+import functions.TabulatedFunction;
+
+// Результат упрощения табулированной функции
+public class Simplification {
+    private final TabulatedFunction function;
+    private final int originalCount;
+    private final double maxError;
+
+    Simplification(TabulatedFunction function, int originalCount, double maxError) {
+        this.function = function;
+        this.originalCount = originalCount;
+        this.maxError = maxError;
+    }
+
+    public TabulatedFunction getFunction() {
+        return function;
+    }
+
+    public int getOriginalCount() {
+        return originalCount;
+    }
+
+    public int getSimplifiedCount() {
+        return function.getCount();
+    }
+
+    public double getCompressionRatio() { // во сколько раз уменьшилось число точек
+        return (double) originalCount / function.getCount();
+    }
+
+    public double getMaxError() {
+        return maxError;
+    }
+
+    @Override
+    public String toString() {
+        return "Simplification " + originalCount + " -> " + getSimplifiedCount()
+                + " points, ratio = " + getCompressionRatio() + ", max error = " + maxError;
+    }
+}
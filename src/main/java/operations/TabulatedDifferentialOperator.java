@@ -1,7 +1,6 @@
 package operations;
 
 import functions.TabulatedFunction;
-import functions.Point;
 import functions.factory.TabulatedFunctionFactory;
 import functions.factory.ArrayTabulatedFunctionFactory;
 import concurrent.SynchronizedTabulatedFunction;
@@ -31,18 +30,20 @@ public class TabulatedDifferentialOperator implements DifferentialOperator<Tabul
     @Override
     public TabulatedFunction derive(TabulatedFunction function) {
         logger.info("Calculating derivative for function with {} points", function.getCount());
-        // Получаем все точки входной функции
-        Point[] points = TabulatedFunctionOperationService.asPoints(function);
-        int count = points.length;
+        int count = function.getCount();
 
         // Создаём массивы xValues и yValues такой же длины
         double[] xValues = new double[count];
         double[] yValues = new double[count];
+        double[] sourceY = new double[count];
 
-        // Заполняем xValues (они остаются теми же)
-        for (int i = 0; i < count; i++) {
-            xValues[i] = points[i].x;
-        }
+        // Заполняем xValues (они остаются теми же) одним проходом forEachPoint, без создания Point
+        int[] index = {0};
+        function.forEachPoint((x, y) -> {
+            xValues[index[0]] = x;
+            sourceY[index[0]] = y;
+            index[0]++;
+        });
 
         // Вычисляем производную с помощью численного дифференцирования
         if (count == 1) {
@@ -50,20 +51,20 @@ public class TabulatedDifferentialOperator implements DifferentialOperator<Tabul
             yValues[0] = 0.0;
         } else {
             // Первая точка: правая разность (forward difference)
-            yValues[0] = (points[1].y - points[0].y) / (points[1].x - points[0].x);
+            yValues[0] = (sourceY[1] - sourceY[0]) / (xValues[1] - xValues[0]);
 
             // Внутренние точки: центральная разность (central difference)
             for (int i = 1; i < count - 1; i++) {
-                yValues[i] = (points[i + 1].y - points[i - 1].y) / (points[i + 1].x - points[i - 1].x);
+                yValues[i] = (sourceY[i + 1] - sourceY[i - 1]) / (xValues[i + 1] - xValues[i - 1]);
             }
 
             // Последняя точка: левая разность (backward difference)
-            yValues[count - 1] = (points[count - 1].y - points[count - 2].y) / (points[count - 1].x - points[count - 2].x);
+            yValues[count - 1] = (sourceY[count - 1] - sourceY[count - 2]) / (xValues[count - 1] - xValues[count - 2]);
         }
 
         // Создаём новый экземпляр табулированной функции с помощью фабрики
         logger.info("Successfully created derivative function");
-        return factory.create(xValues, yValues);
+        return factory.createOwned(xValues, yValues); // исходная таблица может быть вырожденной (xFrom == xTo), поэтому x проверяются
     }
     public TabulatedFunction deriveSynchronously(TabulatedFunction function) {
         logger.debug("Starting synchronous derivative calculation");
@@ -2,6 +2,7 @@ package operations;
 
 import functions.TabulatedFunction;
 import functions.Point;
+import functions.PointCursor;
 import functions.factory.TabulatedFunctionFactory;
 import functions.factory.ArrayTabulatedFunctionFactory;
 import exceptions.InconsistentFunctionsException;
@@ -27,12 +28,9 @@ public class TabulatedFunctionOperationService {
     public static Point[] asPoints(TabulatedFunction tabulatedFunction) {
         // создаем массив точек размером, равным количеству точек в функции
         Point[] points = new Point[tabulatedFunction.getCount()];
-        int i = 0;
-        // цикл for-each для итерации по точкам функции
-        for (Point point : tabulatedFunction) {
-            points[i] = point;
-            i++;
-        }
+        int[] index = {0};
+        // обход без курсора: синхронизированная обёртка не копирует таблицу, Point создаётся только для результата
+        tabulatedFunction.forEachPoint((x, y) -> points[index[0]++] = new Point(x, y));
         logger.trace("Converted function to {} points array", points.length);
         return points;
     }
@@ -45,25 +43,25 @@ public class TabulatedFunctionOperationService {
             logger.error("Function count mismatch: {} != {}", a.getCount(), b.getCount());
             throw new InconsistentFunctionsException("The number of points in the functions does not match");
         }
-        // получение точек функций
-        Point[] pointsA = asPoints(a);
-        Point[] pointsB = asPoints(b);
+        // курсоры по точкам обеих функций - без промежуточных массивов Point
+        PointCursor cursorA = a.cursor();
+        PointCursor cursorB = b.cursor();
 
         // создание массивов для результатов
         double[] xValues = new double[a.getCount()];
         double[] yValues = new double[a.getCount()];
 
         // выполнение операции
-        for (int i = 0; i < a.getCount(); i++) {
-            if (pointsA[i].x != pointsB[i].x) {
-                logger.error("X-coordinate mismatch at index {}: {} != {}", i, pointsA[i].x, pointsB[i].x);
+        for (int i = 0; cursorA.advance() && cursorB.advance(); i++) {
+            if (cursorA.x() != cursorB.x()) {
+                logger.error("X-coordinate mismatch at index {}: {} != {}", i, cursorA.x(), cursorB.x());
                 throw new InconsistentFunctionsException("The X-coordinates don't match");
             }
-            xValues[i] = pointsA[i].x;
-            yValues[i] = operation.apply(pointsA[i].y, pointsB[i].y);
+            xValues[i] = cursorA.x();
+            yValues[i] = operation.apply(cursorA.y(), cursorB.y());
         }
         // создание новой функции
-        return factory.create(xValues, yValues);
+        return factory.createOwned(xValues, yValues); // x проверяются: у вырожденной таблицы они совпадают
     }
     public TabulatedFunction add(TabulatedFunction a, TabulatedFunction b) {
         return doOperation(a, b, (double f, double s) -> f + s); // сложение
@@ -0,0 +1,140 @@
+package operations;
+
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Потоковое упрощение (вариант Рамера-Дугласа-Пекера за один проход): от опорной точки отрезок тянется,
+// пока существует наклон, проходящий не дальше maxError по y от всех пропущенных точек. Сохраняются только
+// исходные точки, поэтому линейная интерполяция упрощённой таблицы отличается от исходной не больше чем на maxError
+// в каждом исходном узле. Время O(n).
+public class TabulatedSimplificationOperator {
+    private static final Logger logger = LoggerFactory.getLogger(TabulatedSimplificationOperator.class);
+    private static final int PARALLEL_CHUNK = 1 << 16;
+    private TabulatedFunctionFactory factory;
+
+    public TabulatedSimplificationOperator() {
+        this.factory = new ArrayTabulatedFunctionFactory();
+    }
+
+    public TabulatedSimplificationOperator(TabulatedFunctionFactory factory) {
+        this.factory = factory;
+    }
+
+    public TabulatedFunctionFactory getFactory() {
+        return factory;
+    }
+
+    public void setFactory(TabulatedFunctionFactory factory) {
+        this.factory = factory;
+    }
+
+    public Simplification simplify(TabulatedFunction function, double maxError) {
+        checkMaxError(maxError);
+        double[][] points = toArrays(function);
+        boolean[] keep = new boolean[points[0].length];
+        markKept(points[0], points[1], 0, keep.length - 1, maxError, keep);
+        return collect(points, keep, maxError);
+    }
+
+    // Таблица режется на блоки, блоки упрощаются независимо; границы блоков сохраняются,
+    // поэтому гарантия ошибки та же, а точек остаётся чуть больше, чем в последовательном варианте.
+    public Simplification simplifyParallel(TabulatedFunction function, double maxError, Executor executor) {
+        checkMaxError(maxError);
+        double[][] points = toArrays(function);
+        int count = points[0].length;
+        boolean[] keep = new boolean[count];
+        int chunks = Math.max(1, (count - 1 + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK);
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[chunks];
+        for (int c = 0; c < chunks; c++) {
+            int from = c * PARALLEL_CHUNK;
+            int to = Math.min(count - 1, from + PARALLEL_CHUNK);
+            tasks[c] = CompletableFuture.runAsync(() -> markKept(points[0], points[1], from, to, maxError, keep), executor);
+        }
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return collect(points, keep, maxError);
+    }
+
+    private static void checkMaxError(double maxError) {
+        if (!(maxError >= 0)) {
+            logger.error("Invalid simplification error bound: {}", maxError);
+            throw new IllegalArgumentException("Max error must be non-negative");
+        }
+    }
+
+    private static double[][] toArrays(TabulatedFunction function) {
+        int count = function.getCount();
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        int[] index = {0};
+        function.forEachPoint((x, y) -> {
+            xValues[index[0]] = x;
+            yValues[index[0]] = y;
+            index[0]++;
+        });
+        return new double[][]{xValues, yValues};
+    }
+
+    // помечает точки отрезка [from; to], которые нужно сохранить; концы сохраняются всегда
+    static void markKept(double[] x, double[] y, int from, int to, double maxError, boolean[] keep) {
+        keep[from] = true;
+        keep[to] = true;
+        int anchor = from;
+        double low = Double.NEGATIVE_INFINITY; // допустимые наклоны отрезка из опорной точки
+        double high = Double.POSITIVE_INFINITY;
+        for (int j = from + 1; j <= to; j++) {
+            double dx = x[j] - x[anchor];
+            double slope = (y[j] - y[anchor]) / dx;
+            if (!(slope >= low && slope <= high)) { // отрезок до j задел бы пропущенную точку - фиксируем j - 1
+                anchor = j - 1;
+                keep[anchor] = true;
+                dx = x[j] - x[anchor];
+                slope = (y[j] - y[anchor]) / dx;
+                low = Double.NEGATIVE_INFINITY;
+                high = Double.POSITIVE_INFINITY;
+            }
+            if (!(dx > 0) || Double.isNaN(slope)) { // совпадающие x или NaN: точку сохраняем как есть
+                keep[j] = true;
+                anchor = j;
+                low = Double.NEGATIVE_INFINITY;
+                high = Double.POSITIVE_INFINITY;
+                continue;
+            }
+            low = Math.max(low, (y[j] - maxError - y[anchor]) / dx);
+            high = Math.min(high, (y[j] + maxError - y[anchor]) / dx);
+        }
+    }
+
+    private Simplification collect(double[][] points, boolean[] keep, double maxError) {
+        int size = 0;
+        for (boolean kept : keep) {
+            if (kept) {
+                size++;
+            }
+        }
+        double[] xValues = new double[size];
+        double[] yValues = new double[size];
+        for (int i = 0, k = 0; i < keep.length; i++) {
+            if (keep[i]) {
+                xValues[k] = points[0][i];
+                yValues[k] = points[1][i];
+                k++;
+            }
+        }
+        Simplification result = new Simplification(factory.createOwned(xValues, yValues), keep.length, maxError);
+        logger.info("Simplified tabulated function from {} to {} points", keep.length, size);
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.MathFunction;
+import functions.PiecewiseChebyshevFunction;
+import functions.SqrFunction;
+import java.util.Random;
+
+// Ручной замер (не запускается surefire): точность, память и скорость приближения Чебышёва
+// против ArrayTabulatedFunction с той же максимальной ошибкой.
+// Запуск: java -cp target/classes:target/test-classes:<slf4j> benchmark.ChebyshevApproximationBenchmark
+public class ChebyshevApproximationBenchmark {
+    private static final double FROM = 0.5;
+    private static final double TO = 4.0;
+    private static final int QUERIES = 1 << 16;
+
+    public static void main(String[] args) {
+        MathFunction source = new SqrFunction().andThen(Math::sin).andThen(Math::exp).andThen(Math::log1p);
+        double[] queries = new double[QUERIES];
+        Random random = new Random(17);
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = FROM + random.nextDouble() * (TO - FROM);
+        }
+        for (double tolerance : new double[]{1e-4, 1e-6, 1e-8}) {
+            PiecewiseChebyshevFunction chebyshev = PiecewiseChebyshevFunction.compile(source, FROM, TO, tolerance);
+            ArrayTabulatedFunction table = tableWithError(source, tolerance, queries);
+            System.out.printf("tolerance %.0e%n", tolerance);
+            System.out.printf("  chebyshev: %d doubles, max error %.3e, %.2f ns/op%n",
+                    chebyshev.getCoefficientCount(), maxError(source, chebyshev, queries), nanosPerOp(chebyshev, queries));
+            System.out.printf("  table:     %d doubles, max error %.3e, %.2f ns/op%n",
+                    2 * table.getCount(), maxError(source, table, queries), nanosPerOp(table, queries));
+        }
+        System.out.printf("source: %.2f ns/op%n", nanosPerOp(source, queries));
+    }
+
+    private static ArrayTabulatedFunction tableWithError(MathFunction source, double tolerance, double[] queries) {
+        for (int count = 16; ; count *= 2) { // наименьшая степень двойки, дающая ту же ошибку на запросах
+            ArrayTabulatedFunction table = new ArrayTabulatedFunction(source, FROM, TO, count);
+            if (maxError(source, table, queries) <= tolerance) {
+                return table;
+            }
+        }
+    }
+
+    private static double maxError(MathFunction source, MathFunction approximation, double[] queries) {
+        double error = 0;
+        for (double x : queries) {
+            error = Math.max(error, Math.abs(source.apply(x) - approximation.apply(x)));
+        }
+        return error;
+    }
+
+    private static double nanosPerOp(MathFunction function, double[] queries) {
+        double sink = 0;
+        for (int warmup = 0; warmup < 50; warmup++) {
+            for (double x : queries) {
+                sink += function.apply(x);
+            }
+        }
+        int rounds = 100;
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (double x : queries) {
+                sink += function.apply(x);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.println(); // не даём JIT выбросить вычисления
+        }
+        return (double) elapsed / rounds / queries.length;
+    }
+}
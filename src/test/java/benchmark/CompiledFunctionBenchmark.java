@@ -0,0 +1,70 @@
+package benchmark;
+
+import functions.ArrayTabulatedFunction;
+import functions.CompositeFunction;
+import functions.FunctionPipeline;
+import functions.IdentityFunction;
+import functions.MathFunction;
+import functions.MathFunctionCompiler;
+import functions.SqrFunction;
+import java.util.Random;
+
+// Ручной замер (не запускается surefire): вложенное дерево CompositeFunction против плоского конвейера
+// и скомпилированного скрытого класса. Запуск (JDK 24):
+// java -cp target/classes:target/test-classes:<slf4j> benchmark.CompiledFunctionBenchmark
+public class CompiledFunctionBenchmark {
+    private static final int QUERIES = 1 << 16;
+    private static final int DEPTH = 50;
+
+    public static void main(String[] args) {
+        ArrayTabulatedFunction table = new ArrayTabulatedFunction(Math::sin, -1.0, 1.0, 1025);
+        MathFunction tree = new IdentityFunction();
+        for (int i = 0; i < DEPTH; i++) { // разные классы узлов делают точки вызова мегаморфными
+            MathFunction stage = switch (i % 3) {
+                case 0 -> new SqrFunction();
+                case 1 -> new CompositeFunction(table, new IdentityFunction());
+                default -> table;
+            };
+            tree = tree.andThen(stage);
+        }
+        double[] queries = new double[QUERIES];
+        Random random = new Random(23);
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = random.nextDouble() * 2 - 1;
+        }
+        MathFunction pipeline = FunctionPipeline.of(tree);
+        MathFunction compiled = MathFunctionCompiler.compile(tree);
+        for (double x : queries) {
+            if (Double.doubleToRawLongBits(tree.apply(x)) != Double.doubleToRawLongBits(compiled.apply(x))) {
+                throw new AssertionError("Compiled result differs at x=" + x);
+            }
+        }
+        double nested = nanosPerOp(tree, queries);
+        double flat = nanosPerOp(pipeline, queries);
+        double bytecode = nanosPerOp(compiled, queries);
+        System.out.printf("nested tree: %.2f ns/op%n", nested);
+        System.out.printf("pipeline:    %.2f ns/op (x%.2f)%n", flat, nested / flat);
+        System.out.printf("compiled:    %.2f ns/op (x%.2f)%n", bytecode, nested / bytecode);
+    }
+
+    private static double nanosPerOp(MathFunction function, double[] queries) {
+        double sink = 0;
+        for (int warmup = 0; warmup < 50; warmup++) {
+            for (double x : queries) {
+                sink += function.apply(x);
+            }
+        }
+        int rounds = 100;
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (double x : queries) {
+                sink += function.apply(x);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.println(); // не даём JIT выбросить вычисления
+        }
+        return (double) elapsed / rounds / queries.length;
+    }
+}
@@ -3,7 +3,10 @@ package concurrent;
 import functions.ArrayTabulatedFunction;
 import functions.LinkedListTabulatedFunction;
 import functions.Point;
+import functions.PointCursor;
 import functions.TabulatedFunction;
+import operations.TabulatedDifferentialOperator;
+import operations.TabulatedFunctionOperationService;
 import org.junit.jupiter.api.Test;
 
 import java.util.Iterator;
@@ -178,4 +181,42 @@ public class SynchronizedTabulatedFunctionTest {
         }
         assertEquals(xValues.length, index);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCursorIsSnapshot() {
+        double[] xValues = {1.0, 2.0, 3.0};
+        double[] yValues = {1.0, 4.0, 9.0};
+        SynchronizedTabulatedFunction synchronizedFunction = new SynchronizedTabulatedFunction(new LinkedListTabulatedFunction(xValues, yValues));
+
+        PointCursor cursor = synchronizedFunction.cursor();
+        synchronizedFunction.setY(0, 100.0);
+
+        assertTrue(cursor.advance());
+        assertEquals(1.0, cursor.x(), 0.0);
+        assertEquals(1.0, cursor.y(), 0.0);
+
+        double[] total = new double[1];
+        synchronizedFunction.forEachPoint((x, y) -> total[0] += y);
+        assertEquals(113.0, total[0], 1e-10);
+    }
+
+
+    @Test
+    public void testOperatorsTraverseWrappedFunctionWithoutCursor() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> x * x, 0, 4, 5);
+        SynchronizedTabulatedFunction synchronizedFunction = new SynchronizedTabulatedFunction(function) {
+            @Override
+            public PointCursor cursor() {
+                throw new AssertionError("snapshot cursor must not be used by full traversals");
+            }
+        };
+        Point[] points = TabulatedFunctionOperationService.asPoints(synchronizedFunction);
+        assertEquals(5, points.length);
+        assertEquals(16.0, points[4].y, 0.0);
+        TabulatedFunction derivative = new TabulatedDifferentialOperator().derive(synchronizedFunction);
+        TabulatedFunction expected = new TabulatedDifferentialOperator().derive(function);
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getY(i), derivative.getY(i), 0.0);
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package functions;
 
+import exceptions.DifferentLengthOfArraysException;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import exceptions.InterpolationException;
+import exceptions.ArrayIsNotSortedException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.Spliterator;
 
 public class ArrayTabulatedFunctionTest {
 
@@ -290,4 +298,404 @@ public class ArrayTabulatedFunctionTest {
         assertEquals(6.5, function.apply(2.5), 1e-10);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testBatchApplySortedMatchesScalar() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0};
+        double[] yValues = {1.0, 4.0, 9.0, 16.0};
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+        double[] queries = {0.0, 1.0, 1.5, 2.0, 2.5, 2.5, 4.0, 5.0};
+        double[] results = new double[queries.length];
+
+        function.apply(queries, results);
+
+        for (int i = 0; i < queries.length; i++) {
+            assertEquals(function.apply(queries[i]), results[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testBatchApplyUnsortedMatchesScalar() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0.0, 10.0, 11);
+        double[] queries = {7.5, -1.0, 3.0, 0.25, 12.0, 9.99, 3.0};
+        double[] results = new double[queries.length];
+
+        function.apply(queries, results);
+
+        for (int i = 0; i < queries.length; i++) {
+            assertEquals(function.apply(queries[i]), results[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testBatchApplyWithOffsets() {
+        double[] xValues = {1.0, 2.0, 3.0};
+        double[] yValues = {10.0, 20.0, 30.0};
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+        double[] queries = {100.0, 1.5, 2.5, 100.0};
+        double[] results = {-1.0, -1.0, -1.0, -1.0, -1.0};
+
+        function.apply(queries, 1, results, 2, 2);
+
+        assertArrayEquals(new double[]{-1.0, -1.0, 15.0, 25.0, -1.0}, results, 1e-10);
+        assertThrows(IllegalArgumentException.class, () -> function.apply(queries, 3, results, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> function.apply(queries, 0, results, 4, 2));
+    }
+
+    @Test
+    public void testUniformGridDetected() {
+        ArrayTabulatedFunction discretized = new ArrayTabulatedFunction(new SqrFunction(), 0.0, 4.0, 5);
+        ArrayTabulatedFunction fromArrays = new ArrayTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{1.0, 4.0, 9.0});
+        ArrayTabulatedFunction irregular = new ArrayTabulatedFunction(new double[]{1.0, 2.0, 4.0}, new double[]{1.0, 4.0, 16.0});
+
+        assertTrue(discretized.isUniform());
+        assertTrue(fromArrays.isUniform());
+        assertFalse(irregular.isUniform());
+        assertFalse(irregular.compactUniformGrid());
+    }
+
+    @Test
+    public void testCompactUniformGridLookups() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0.0, 1.0, 11);
+        ArrayTabulatedFunction reference = new ArrayTabulatedFunction(new SqrFunction(), 0.0, 1.0, 11);
+
+        assertTrue(function.compactUniformGrid());
+
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(reference.getX(i), function.getX(i), 0.0);
+            assertEquals(i, function.indexOfX(reference.getX(i)));
+        }
+        assertEquals(-1, function.indexOfX(0.55));
+        assertEquals(5, function.floorIndexOfX(0.55));
+        assertEquals(10, function.floorIndexOfX(1.0));
+        assertEquals(11, function.floorIndexOfX(1.5));
+        assertEquals(reference.apply(0.55), function.apply(0.55), 0.0);
+        assertEquals(reference.apply(-0.5), function.apply(-0.5), 0.0);
+        assertEquals(reference.apply(1.7), function.apply(1.7), 0.0);
+    }
+
+    @Test
+    public void testUniformGridDowngradesOnInsertAndRemove() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0.0, 4.0, 5);
+        function.compactUniformGrid();
+
+        function.insert(2.0, 5.0); // замена существующей точки
+        assertTrue(function.isUniform());
+        function.insert(5.0, 25.0); // следующий узел сетки
+        assertTrue(function.isUniform());
+        function.remove(5); // последняя точка
+        assertTrue(function.isUniform());
+
+        function.insert(2.5, 6.25);
+        assertFalse(function.isUniform());
+        assertEquals(3, function.indexOfX(2.5));
+        assertEquals(2, function.floorIndexOfX(2.25));
+        assertEquals(5.0, function.getY(2), 1e-10);
+        assertEquals(16.0, function.apply(4.0), 1e-10);
+    }
+
+    @Test
+    public void testCapacityGrowsGeometricallyAndTrims() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0}, new double[]{0.0, 1.0});
+        assertEquals(2, function.getCapacity());
+
+        for (int i = 2; i < 1000; i++) {
+            function.insert(i, i * 2.0);
+        }
+
+        assertEquals(1000, function.getCount());
+        assertTrue(function.getCapacity() >= 1000);
+        assertEquals(1998.0, function.getY(999), 1e-10);
+
+        function.trimToSize();
+        assertEquals(1000, function.getCapacity());
+        function.ensureCapacity(1500);
+        assertTrue(function.getCapacity() >= 1500);
+        assertEquals(1000, function.getCount());
+    }
+
+    @Test
+    public void testInsertAndRemoveShiftInPlace() {
+        double[] xValues = {1.0, 3.0, 5.0};
+        double[] yValues = {10.0, 30.0, 50.0};
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        function.insert(4.0, 40.0);
+        function.insert(0.0, 0.0);
+        function.insert(2.0, 20.0);
+        function.insert(3.0 + 1e-13, 33.0); // совпадает с существующим x с учётом точности
+        function.remove(5);
+        function.remove(0);
+
+        assertEquals(4, function.getCount());
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0, 4.0}, new double[]{function.getX(0), function.getX(1), function.getX(2), function.getX(3)}, 1e-10);
+        assertArrayEquals(new double[]{10.0, 20.0, 33.0, 40.0}, new double[]{function.getY(0), function.getY(1), function.getY(2), function.getY(3)}, 1e-10);
+        assertEquals(26.5, function.apply(2.5), 1e-10);
+    }
+
+    @Test
+    public void testInsertAllMatchesSequentialInsert() {
+        double[] xValues = {1.0, 3.0, 5.0, 7.0};
+        double[] yValues = {1.0, 9.0, 25.0, 49.0};
+        ArrayTabulatedFunction batch = new ArrayTabulatedFunction(xValues, yValues);
+        ArrayTabulatedFunction sequential = new ArrayTabulatedFunction(xValues, yValues);
+        double[] newX = {6.0, 0.0, 3.0, 8.0, 2.0, 6.0};
+        double[] newY = {36.0, 0.0, 10.0, 64.0, 4.0, 37.0};
+
+        batch.insertAll(newX, newY);
+        for (int i = 0; i < newX.length; i++) {
+            sequential.insert(newX[i], newY[i]);
+        }
+
+        assertEquals(8, batch.getCount());
+        assertEquals(sequential.getCount(), batch.getCount());
+        for (int i = 0; i < batch.getCount(); i++) {
+            assertEquals(sequential.getX(i), batch.getX(i), 0.0);
+            assertEquals(sequential.getY(i), batch.getY(i), 0.0);
+        }
+        assertEquals(10.0, batch.getY(batch.indexOfX(3.0)), 0.0);
+        assertEquals(37.0, batch.getY(batch.indexOfX(6.0)), 0.0);
+        assertThrows(DifferentLengthOfArraysException.class, () -> batch.insertAll(new double[]{1.0}, new double[0]));
+    }
+
+    @Test
+    public void testRemoveRange() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0, 5.0};
+        double[] yValues = {10.0, 20.0, 30.0, 40.0, 50.0};
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        function.removeRange(1, 3);
+
+        assertEquals(3, function.getCount());
+        assertEquals(1.0, function.getX(0), 1e-10);
+        assertEquals(4.0, function.getX(1), 1e-10);
+        assertEquals(50.0, function.getY(2), 1e-10);
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(2, 4));
+        assertThrows(IllegalStateException.class, () -> function.removeRange(0, 2));
+        assertEquals(3, function.getCount());
+    }
+
+    @Test
+    public void testRemoveIf() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0, 5.0};
+        double[] yValues = {10.0, 20.0, 30.0, 40.0, 50.0};
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        assertFalse(function.removeIf(x -> x > 10.0));
+        assertTrue(function.removeIf(x -> x % 2 == 0));
+
+        assertEquals(3, function.getCount());
+        assertEquals(3.0, function.getX(1), 1e-10);
+        assertEquals(50.0, function.getY(2), 1e-10);
+        assertThrows(IllegalStateException.class, () -> function.removeIf(x -> x > 1.0));
+        assertEquals(3, function.getCount());
+    }
+
+    @Test
+    public void testIndexOfXBinarySearchWithTolerance() {
+        double[] xValues = {-3.0, -1.0, 0.5, 2.0, 7.0, 11.0};
+        double[] yValues = {9.0, 1.0, 0.25, 4.0, 49.0, 121.0};
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        assertFalse(function.isUniform());
+        for (int i = 0; i < xValues.length; i++) {
+            assertEquals(i, function.indexOfX(xValues[i]));
+        }
+        assertEquals(3, function.indexOfX(2.0 + 1e-13));
+        assertEquals(3, function.indexOfX(2.0 - 1e-13));
+        assertEquals(-1, function.indexOfX(2.0 + 1e-9));
+        assertEquals(-1, function.indexOfX(-5.0));
+        assertEquals(-1, function.indexOfX(12.0));
+        assertEquals(-1, function.indexOfX(Double.NaN));
+        assertEquals(4.0, function.apply(2.0 + 1e-13), 0.0);
+        assertEquals(26.5, function.apply(4.5), 1e-10);
+    }
+
+    @Test
+    public void testCursorAndForEachPoint() {
+        double[] xValues = {1.0, 2.0, 3.0};
+        double[] yValues = {4.0, 5.0, 6.0};
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        PointCursor cursor = function.cursor();
+        int index = 0;
+        while (cursor.advance()) {
+            assertEquals(xValues[index], cursor.x(), 0.0);
+            assertEquals(yValues[index], cursor.y(), 0.0);
+            index++;
+        }
+        assertEquals(3, index);
+        assertFalse(cursor.advance());
+
+        double[] sums = new double[2];
+        function.forEachPoint((x, y) -> {
+            sums[0] += x;
+            sums[1] += y;
+        });
+        assertEquals(6.0, sums[0], 1e-10);
+        assertEquals(15.0, sums[1], 1e-10);
+    }
+
+    @Test
+    public void testParallelStreamsMatchSequential() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> x * x, 0, 10, 10001);
+        assertEquals(function.ys().sum(), function.ys().parallel().sum(), 1e-6);
+        assertEquals(10.0, function.xs().parallel().max().getAsDouble(), 1e-12);
+        assertEquals(10001, function.parallelStream().count());
+        assertArrayEquals(function.xs().toArray(), function.stream().mapToDouble(p -> p.x).toArray(), 1e-12);
+    }
+
+    @Test
+    public void testSpliteratorSplitsEvenly() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{1, 2, 3, 4}, new double[]{10, 20, 30, 40});
+        Spliterator<Point> spliterator = function.spliterator();
+        assertEquals(4, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        Spliterator<Point> prefix = spliterator.trySplit();
+        assertEquals(2, prefix.estimateSize());
+        assertEquals(2, spliterator.estimateSize());
+        prefix.tryAdvance(p -> assertEquals(1.0, p.x, 1e-12));
+        spliterator.tryAdvance(p -> assertEquals(3.0, p.x, 1e-12));
+    }
+
+    @Test
+    public void testXsOnCompactUniformGrid() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> x, 0, 4, 5);
+        function.compactUniformGrid();
+        assertArrayEquals(new double[]{0, 1, 2, 3, 4}, function.xs().toArray(), 1e-12);
+        assertArrayEquals(new double[]{0, 1, 2, 3, 4}, function.ys().toArray(), 1e-12);
+    }
+
+    @Test
+    public void testSortedBatchWithNaNAndOffsets() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> x * x, 0, 10, 11);
+        double[] queries = new double[3000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = -1 + i * 0.004;
+        }
+        double[] results = new double[queries.length + 2];
+        function.apply(queries, 0, results, 2, queries.length);
+        for (int i = 0; i < queries.length; i++) {
+            assertEquals(function.apply(queries[i]), results[i + 2], 0.0);
+        }
+        double[] withNaN = {1.5, Double.NaN, 2.5, 3, 4, 5, 6, 7, 8.5};
+        double[] nanResults = new double[withNaN.length];
+        function.apply(withNaN, nanResults);
+        assertTrue(Double.isNaN(nanResults[1]));
+        assertEquals(2.5, nanResults[0], 1e-12);
+        assertEquals(72.5, nanResults[8], 1e-12);
+    }
+
+    @Test
+    public void testDefaultInterpolationEngine() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{3, 4});
+        assertSame(InterpolationEngines.defaultEngine(), function.getInterpolationEngine());
+        function.setInterpolationEngine(InterpolationEngines.scalar());
+        assertSame(ScalarInterpolationEngine.INSTANCE, function.getInterpolationEngine());
+        function.setInterpolationEngine(null);
+        assertSame(InterpolationEngines.defaultEngine(), function.getInterpolationEngine());
+    }
+
+    @Test
+    public void testSerializationWritesOnlyUsedPoints() throws Exception {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{1, 2.5, 3}, new double[]{10, 20, 30});
+        function.ensureCapacity(100000);
+        ArrayTabulatedFunction restored = roundTrip(function);
+        assertEquals(3, restored.getCount());
+        assertEquals(3, restored.getCapacity());
+        assertEquals(20.0, restored.getY(1), 0.0);
+        assertEquals(2.5, restored.getX(1), 0.0);
+        restored.insert(4, 40);
+        assertEquals(40.0, restored.getY(3), 0.0);
+
+        ArrayTabulatedFunction compact = new ArrayTabulatedFunction(x -> x * x, 0, 10, 11);
+        compact.compactUniformGrid();
+        ArrayTabulatedFunction restoredCompact = roundTrip(compact);
+        assertTrue(restoredCompact.isUniform());
+        assertEquals(9.0, restoredCompact.getX(9), 1e-12);
+        assertEquals(30.5, restoredCompact.apply(5.5), 1e-12);
+    }
+
+    private static ArrayTabulatedFunction roundTrip(ArrayTabulatedFunction function) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(function);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (ArrayTabulatedFunction) in.readObject();
+        }
+    }
+
+    @Test
+    public void testWrapAdoptsArraysWithoutCopying() {
+        double[] xValues = {1, 2, 4};
+        double[] yValues = {10, 20, 40};
+        ArrayTabulatedFunction function = ArrayTabulatedFunction.wrap(xValues, yValues, true);
+        yValues[1] = 25; // массив стал хранилищем функции
+        assertEquals(25.0, function.getY(1), 0.0);
+        assertFalse(function.isUniform());
+        assertTrue(ArrayTabulatedFunction.wrap(new double[]{0, 1, 2}, new double[]{0, 1, 4}, false).isUniform());
+
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> ArrayTabulatedFunction.wrap(new double[]{1, 3, 2}, new double[]{1, 2, 3}, true));
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> ArrayTabulatedFunction.wrap(new double[]{1, 2}, new double[]{1, 2, 3}, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> ArrayTabulatedFunction.wrap(new double[]{1}, new double[]{1}, false));
+
+        function.insert(3, 30); // вставка перераспределяет хранилище
+        assertEquals(30.0, function.getY(2), 0.0);
+        assertEquals(4, function.getCount());
+    }
+
+
+    @Test
+    public void testBatchApplyIsBitIdenticalToPointwise() {
+        double[] xValues = new double[2000];
+        double[] yValues = new double[2000];
+        Random random = new Random(7);
+        double x = 0;
+        for (int i = 0; i < xValues.length; i++) {
+            x += 0.01 + random.nextDouble();
+            xValues[i] = x;
+            yValues[i] = random.nextDouble() * 100 - 50;
+        }
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+        double[] queries = new double[5000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = -5 + i * (x + 10) / queries.length;
+        }
+        assertSame(InterpolationEngines.defaultEngine(), function.getInterpolationEngine());
+        double[] results = new double[queries.length];
+        function.apply(queries, results);
+        for (int i = 0; i < queries.length; i++) {
+            assertEquals(function.apply(queries[i]), results[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testEnginesUseOverriddenInterpolation() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0, 1, 2, 3, 4, 5, 6, 7, 8},
+                new double[]{0, 1, 2, 3, 4, 5, 6, 7, 8}) {
+            @Override
+            protected double interpolate(double x, double leftX, double rightX, double leftY, double rightY) {
+                return -1; // ступенчатая "интерполяция" подкласса
+            }
+        };
+        double[] queries = {0.5, 1.5, 2.5, 3.5, 4.5, 5.5, 6.5, 7.5, 3.0};
+        double[] results = new double[queries.length];
+        function.setInterpolationEngine(InterpolationEngines.scalar());
+        function.apply(queries, results);
+        assertArrayEquals(new double[]{-1, -1, -1, -1, -1, -1, -1, -1, 3}, results, 0.0);
+    }
+
+
+    @Test
+    public void testEmptyRemoveRangeKeepsUniformGrid() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> x * x, 0, 10, 11);
+        assertTrue(function.isUniform());
+        function.removeRange(3, 3);
+        assertTrue(function.isUniform());
+        assertEquals(11, function.getCount());
+        assertEquals(4, function.indexOfX(4.0));
+    }
+}
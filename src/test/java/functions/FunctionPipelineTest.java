@@ -0,0 +1,78 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FunctionPipelineTest {
+
+    @Test
+    public void testFlattensDeepChain() {
+        MathFunction chain = new IdentityFunction();
+        for (int i = 0; i < 50; i++) {
+            int k = i;
+            chain = chain.andThen(x -> x + k).andThen(new IdentityFunction());
+        }
+        FunctionPipeline pipeline = FunctionPipeline.of(chain);
+
+        assertEquals(50, pipeline.getStageCount());
+        assertFalse(pipeline.isConstant());
+        for (double x = -3.0; x <= 3.0; x += 0.5) {
+            assertEquals(chain.apply(x), pipeline.apply(x), 0.0);
+        }
+    }
+
+    @Test
+    public void testFoldsConstantStages() {
+        MathFunction chain = new SqrFunction().andThen(new UnitFunction()).andThen(x -> x * 3).andThen(new SqrFunction());
+        FunctionPipeline pipeline = FunctionPipeline.of(chain);
+
+        assertTrue(pipeline.isConstant());
+        assertEquals(0, pipeline.getStageCount());
+        assertEquals(9.0, pipeline.apply(123.0), 0.0);
+        assertArrayEquals(new double[]{9.0, 9.0}, pipeline.apply(new double[]{1.0, Double.NaN}), 0.0);
+
+        FunctionPipeline zero = FunctionPipeline.of(new ZeroFunction().andThen(Math::cos));
+        assertEquals(1.0, zero.apply(5.0), 0.0);
+        FunctionPipeline nested = FunctionPipeline.of(zero.andThen(x -> x + 1));
+        assertTrue(nested.isConstant());
+        assertEquals(2.0, nested.apply(-1.0), 0.0);
+    }
+
+    @Test
+    public void testBulkApplyMatchesScalar() {
+        ArrayTabulatedFunction table = new ArrayTabulatedFunction(Math::sin, 0.0, 10.0, 101);
+        MathFunction chain = new SqrFunction().andThen(table).andThen(x -> 2 * x).andThen(table);
+        FunctionPipeline pipeline = FunctionPipeline.of(chain);
+
+        double[] xValues = new double[1000];
+        for (int i = 0; i < xValues.length; i++) {
+            xValues[i] = -3.0 + i * 0.006;
+        }
+        double[] results = pipeline.apply(xValues);
+        for (int i = 0; i < xValues.length; i++) {
+            assertEquals(chain.apply(xValues[i]), results[i], 1e-12);
+        }
+
+        double[] partial = new double[5];
+        pipeline.apply(xValues, 10, partial, 1, 3);
+        assertEquals(0.0, partial[0], 0.0);
+        assertEquals(results[11], partial[2], 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> pipeline.apply(xValues, 999, partial, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> FunctionPipeline.of(null));
+    }
+
+
+    @Test
+    public void testCompositeSubclassIsKeptAsStage() {
+        MathFunction clamped = new CompositeFunction(new SqrFunction(), x -> x + 1) {
+            @Override
+            public double apply(double x) {
+                return Math.min(10.0, super.apply(x));
+            }
+        };
+        FunctionPipeline pipeline = FunctionPipeline.of(clamped.andThen(x -> 2 * x));
+        assertEquals(2, pipeline.getStageCount());
+        assertEquals(20.0, pipeline.apply(5.0), 0.0);
+        assertEquals(4.0, pipeline.apply(1.0), 0.0);
+    }
+}
@@ -0,0 +1,171 @@
+package functions;
+
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import operations.TabulatedDifferentialOperator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LazyTabulatedFunctionTest {
+
+    @Test
+    public void testValuesAreComputedOnDemand() {
+        AtomicInteger calls = new AtomicInteger();
+        MathFunction source = x -> {
+            calls.incrementAndGet();
+            return x * x;
+        };
+        LazyTabulatedFunction function = new LazyTabulatedFunction(source, 0.0, 100.0, 1001);
+
+        assertEquals(0, calls.get());
+        assertEquals(0, function.getComputedCount());
+        assertEquals(25.0, function.apply(5.0), 1e-10);
+        assertEquals(26.525, function.apply(5.15), 1e-10);
+        assertTrue(function.isComputed(50));
+        assertFalse(function.isComputed(0));
+        int afterQueries = calls.get();
+        assertTrue(afterQueries <= 3);
+
+        function.apply(5.0);
+        function.getY(51);
+        assertEquals(afterQueries, calls.get()); // повторно не вычисляется
+        assertEquals(afterQueries, function.getComputedCount());
+    }
+
+    @Test
+    public void testMatchesEagerArrayFunction() {
+        LazyTabulatedFunction function = new LazyTabulatedFunction(Math::sin, 3.0, -1.0, 17);
+        ArrayTabulatedFunction reference = new ArrayTabulatedFunction(Math::sin, 3.0, -1.0, 17);
+
+        for (int i = 0; i < reference.getCount(); i++) {
+            assertEquals(reference.getX(i), function.getX(i), 0.0);
+            assertEquals(reference.getY(i), function.getY(i), 0.0);
+        }
+        for (double x = -2.0; x <= 4.0; x += 0.13) {
+            assertEquals(reference.apply(x), function.apply(x), 0.0);
+        }
+        assertEquals(reference.indexOfX(0.0), function.indexOfX(0.0));
+        assertEquals(-1, function.indexOfX(0.1));
+    }
+
+    @Test
+    public void testSetYMarksPointComputed() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyTabulatedFunction function = new LazyTabulatedFunction(x -> calls.incrementAndGet(), 0.0, 1.0, 3);
+        function.setY(1, 42.0);
+        assertTrue(function.isComputed(1));
+        assertEquals(42.0, function.getY(1), 1e-10);
+        assertEquals(0, calls.get());
+        assertThrows(IllegalArgumentException.class, () -> function.getY(3));
+        assertThrows(IllegalArgumentException.class, () -> new LazyTabulatedFunction(x -> x, 0.0, 1.0, 1));
+    }
+
+    @Test
+    public void testDegenerateInterval() {
+        LazyTabulatedFunction function = new LazyTabulatedFunction(x -> x + 1, 2.0, 2.0, 4);
+        assertEquals(2.0, function.getX(3), 0.0);
+        assertEquals(0, function.indexOfX(2.0));
+        assertEquals(3.0, function.apply(2.0), 1e-10);
+    }
+
+    @Test
+    public void testPrefetchComputesAllPoints() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            LazyTabulatedFunction function = new LazyTabulatedFunction(new SqrFunction(), 0.0, 10.0, 500);
+            function.getY(7);
+            function.prefetch(executor).get(10, TimeUnit.SECONDS);
+            assertEquals(500, function.getComputedCount());
+            assertEquals(100.0, function.getY(499), 1e-10);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testWorksWithOperators() {
+        LazyTabulatedFunction function = new LazyTabulatedFunction(new SqrFunction(), 0.0, 4.0, 5);
+        TabulatedFunction derivative = new TabulatedDifferentialOperator(new LinkedListTabulatedFunctionFactory()).derive(function);
+        assertInstanceOf(LinkedListTabulatedFunction.class, derivative);
+        assertEquals(5, derivative.getCount());
+        assertEquals(1.0, derivative.getY(0), 1e-10);
+        assertEquals(5, function.getComputedCount());
+    }
+
+
+    @Test
+    public void testReadersDoNotWaitForSlowComputation() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LazyTabulatedFunction function = new LazyTabulatedFunction(x -> {
+            if (x == 5.0) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return 2 * x;
+        }, 0.0, 9.0, 10);
+        assertEquals(2.0, function.getY(1), 0.0);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Double> slow = executor.submit(() -> function.getY(5));
+            assertTrue(entered.await(10, TimeUnit.SECONDS));
+            // пока точка 5 вычисляется, готовые и другие точки читаются без ожидания
+            assertEquals(2.0, executor.submit(() -> function.getY(1)).get(10, TimeUnit.SECONDS), 0.0);
+            assertEquals(14.0, executor.submit(() -> function.getY(7)).get(10, TimeUnit.SECONDS), 0.0);
+            assertFalse(function.isComputed(5));
+            release.countDown();
+            assertEquals(10.0, slow.get(10, TimeUnit.SECONDS), 0.0);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentReadersAgreeOnFirstValue() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        LazyTabulatedFunction function = new LazyTabulatedFunction(x -> calls.incrementAndGet(), 0.0, 1.0, 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<double[]>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    double[] seen = new double[1000];
+                    for (int i = 0; i < 1000; i++) {
+                        seen[i] = function.getY(i);
+                    }
+                    return seen;
+                }));
+            }
+            double[] first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<double[]> future : futures) {
+                assertArrayEquals(first, future.get(10, TimeUnit.SECONDS), 0.0); // все видят значение первой записи
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(first[i], function.getY(i), 0.0);
+            }
+            assertEquals(1000, function.getComputedCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSourceReturningNaN() {
+        LazyTabulatedFunction function = new LazyTabulatedFunction(x -> Double.NaN, 0.0, 1.0, 2);
+        assertTrue(Double.isNaN(function.getY(0)));
+        assertTrue(function.isComputed(0));
+        assertFalse(function.isComputed(1));
+    }
+}
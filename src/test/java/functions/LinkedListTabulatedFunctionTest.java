@@ -1,9 +1,17 @@
 package functions;
 
+import exceptions.DifferentLengthOfArraysException;
+import io.FunctionsIO;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.Spliterator;
 
 class LinkedListTabulatedFunctionTest {
     @Test
@@ -437,4 +445,348 @@ class LinkedListTabulatedFunctionTest {
         assertFalse(iterator.hasNext());
         assertThrows(NoSuchElementException.class, iterator::next);
     }
+
+    @Test
+    public void testBatchApplySortedMatchesScalar() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0};
+        double[] yValues = {1.0, 4.0, 9.0, 16.0};
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(xValues, yValues);
+        double[] queries = {0.0, 1.0, 1.5, 2.0, 2.5, 2.5, 4.0, 5.0};
+        double[] results = new double[queries.length];
+
+        function.apply(queries, results);
+
+        for (int i = 0; i < queries.length; i++) {
+            assertEquals(function.apply(queries[i]), results[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testBatchApplyUnsortedMatchesScalar() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new SqrFunction(), 0.0, 10.0, 11);
+        double[] queries = {7.5, -1.0, 3.0, 0.25, 12.0, 9.99, 3.0};
+        double[] results = new double[queries.length];
+
+        function.apply(queries, results);
+
+        for (int i = 0; i < queries.length; i++) {
+            assertEquals(function.apply(queries[i]), results[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testBatchApplyWithOffsets() {
+        double[] xValues = {1.0, 2.0, 3.0};
+        double[] yValues = {10.0, 20.0, 30.0};
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(xValues, yValues);
+        double[] queries = {100.0, 1.5, 2.5, 100.0};
+        double[] results = {-1.0, -1.0, -1.0, -1.0, -1.0};
+
+        function.apply(queries, 1, results, 2, 2);
+
+        assertArrayEquals(new double[]{-1.0, -1.0, 15.0, 25.0, -1.0}, results, 1e-10);
+        assertThrows(IllegalArgumentException.class, () -> function.apply(queries, 3, results, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> function.apply(queries, 0, results, 4, 2));
+    }
+
+    @Test
+    public void testUniformGridDetected() {
+        LinkedListTabulatedFunction discretized = new LinkedListTabulatedFunction(new SqrFunction(), 0.0, 4.0, 5);
+        LinkedListTabulatedFunction fromArrays = new LinkedListTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{1.0, 4.0, 9.0});
+        LinkedListTabulatedFunction irregular = new LinkedListTabulatedFunction(new double[]{1.0, 2.0, 4.0}, new double[]{1.0, 4.0, 16.0});
+
+        assertTrue(discretized.isUniform());
+        assertTrue(fromArrays.isUniform());
+        assertFalse(irregular.isUniform());
+    }
+
+    @Test
+    public void testUniformGridLookups() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new SqrFunction(), 0.0, 1.0, 11);
+
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(i, function.indexOfX(function.getX(i)));
+        }
+        assertEquals(-1, function.indexOfX(0.55));
+        assertEquals(5, function.floorIndexOfX(0.55));
+        assertEquals(10, function.floorIndexOfX(1.0));
+        assertEquals(11, function.floorIndexOfX(1.5));
+        assertEquals(0.305, function.apply(0.55), 1e-10);
+        assertEquals(0.125, function.apply(0.35), 1e-10);
+    }
+
+    @Test
+    public void testUniformGridDowngradesOnInsertAndRemove() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new SqrFunction(), 0.0, 4.0, 5);
+
+        function.insert(2.0, 5.0); // замена существующей точки
+        assertTrue(function.isUniform());
+        function.insert(5.0, 25.0); // следующий узел сетки
+        assertTrue(function.isUniform());
+        function.remove(5); // последняя точка
+        assertTrue(function.isUniform());
+
+        function.insert(2.5, 6.25);
+        assertFalse(function.isUniform());
+        assertEquals(3, function.indexOfX(2.5));
+        assertEquals(2, function.floorIndexOfX(2.25));
+        assertEquals(5.0, function.getY(2), 1e-10);
+        assertEquals(16.0, function.apply(4.0), 1e-10);
+    }
+
+    @Test
+    public void testInsertAllMatchesSequentialInsert() {
+        double[] xValues = {1.0, 3.0, 5.0, 7.0};
+        double[] yValues = {1.0, 9.0, 25.0, 49.0};
+        LinkedListTabulatedFunction batch = new LinkedListTabulatedFunction(xValues, yValues);
+        LinkedListTabulatedFunction sequential = new LinkedListTabulatedFunction(xValues, yValues);
+        double[] newX = {6.0, 0.0, 3.0, 8.0, 2.0, 6.0};
+        double[] newY = {36.0, 0.0, 10.0, 64.0, 4.0, 37.0};
+
+        batch.insertAll(newX, newY);
+        for (int i = 0; i < newX.length; i++) {
+            sequential.insert(newX[i], newY[i]);
+        }
+
+        assertEquals(8, batch.getCount());
+        assertEquals(sequential.getCount(), batch.getCount());
+        for (int i = 0; i < batch.getCount(); i++) {
+            assertEquals(sequential.getX(i), batch.getX(i), 0.0);
+            assertEquals(sequential.getY(i), batch.getY(i), 0.0);
+        }
+        assertEquals(10.0, batch.getY(batch.indexOfX(3.0)), 0.0);
+        assertEquals(37.0, batch.getY(batch.indexOfX(6.0)), 0.0);
+        assertThrows(DifferentLengthOfArraysException.class, () -> batch.insertAll(new double[]{1.0}, new double[0]));
+    }
+
+    @Test
+    public void testRemoveRange() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0, 5.0};
+        double[] yValues = {10.0, 20.0, 30.0, 40.0, 50.0};
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(xValues, yValues);
+
+        function.removeRange(1, 3);
+
+        assertEquals(3, function.getCount());
+        assertEquals(1.0, function.getX(0), 1e-10);
+        assertEquals(4.0, function.getX(1), 1e-10);
+        assertEquals(50.0, function.getY(2), 1e-10);
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(2, 4));
+        assertThrows(IllegalStateException.class, () -> function.removeRange(0, 2));
+        assertEquals(3, function.getCount());
+    }
+
+    @Test
+    public void testRemoveIf() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0, 5.0};
+        double[] yValues = {10.0, 20.0, 30.0, 40.0, 50.0};
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(xValues, yValues);
+
+        assertFalse(function.removeIf(x -> x > 10.0));
+        assertTrue(function.removeIf(x -> x % 2 == 0));
+
+        assertEquals(3, function.getCount());
+        assertEquals(3.0, function.getX(1), 1e-10);
+        assertEquals(50.0, function.getY(2), 1e-10);
+        assertThrows(IllegalStateException.class, () -> function.removeIf(x -> x > 1.0));
+        assertEquals(3, function.getCount());
+    }
+
+    @Test
+    public void testCursorAndForEachPoint() {
+        double[] xValues = {1.0, 2.0, 3.0};
+        double[] yValues = {4.0, 5.0, 6.0};
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(xValues, yValues);
+
+        PointCursor cursor = function.cursor();
+        int index = 0;
+        while (cursor.advance()) {
+            assertEquals(xValues[index], cursor.x(), 0.0);
+            assertEquals(yValues[index], cursor.y(), 0.0);
+            index++;
+        }
+        assertEquals(3, index);
+        assertFalse(cursor.advance());
+
+        double[] sums = new double[2];
+        function.forEachPoint((x, y) -> {
+            sums[0] += x;
+            sums[1] += y;
+        });
+        assertEquals(6.0, sums[0], 1e-10);
+        assertEquals(15.0, sums[1], 1e-10);
+    }
+
+    @Test
+    public void testParallelStreamsMatchSequential() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(x -> x * x, 0, 10, 10001);
+        assertEquals(function.ys().sum(), function.ys().parallel().sum(), 1e-6);
+        assertEquals(10.0, function.xs().parallel().max().getAsDouble(), 1e-12);
+        assertEquals(10001, function.parallelStream().count());
+        assertArrayEquals(function.xs().toArray(), function.stream().mapToDouble(p -> p.x).toArray(), 1e-12);
+    }
+
+    @Test
+    public void testSpliteratorSplitsEvenly() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new double[]{1, 2, 3, 4, 5}, new double[]{10, 20, 30, 40, 50});
+        Spliterator<Point> spliterator = function.spliterator();
+        assertEquals(5, spliterator.estimateSize());
+        Spliterator<Point> prefix = spliterator.trySplit();
+        assertEquals(2, prefix.estimateSize());
+        assertEquals(3, spliterator.estimateSize());
+        spliterator.tryAdvance(p -> assertEquals(3.0, p.x, 1e-12));
+        Spliterator.OfDouble ys = function.ys().spliterator();
+        assertEquals(2, ys.trySplit().estimateSize());
+        ys.tryAdvance((double y) -> assertEquals(30.0, y, 1e-12));
+    }
+
+    @Test
+    public void testSequentialAccessAfterStructuralChanges() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(x -> x * 10, 0, 9, 10);
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(i * 10.0, function.getY(i), 1e-12);
+        }
+        assertEquals(50.0, function.getY(5), 1e-12); // палец на узле 5
+        function.insert(-1, -10); // вставка в начало сдвигает индексы
+        assertEquals(40.0, function.getY(5), 1e-12);
+        assertEquals(50.0, function.getY(6), 1e-12);
+        function.insert(4.5, 45); // вставка в середину
+        assertEquals(45.0, function.getY(6), 1e-12);
+        assertEquals(50.0, function.getY(7), 1e-12);
+        function.remove(6); // удаление узла, на котором стоит палец
+        assertEquals(50.0, function.getY(6), 1e-12);
+        function.removeRange(0, 3);
+        assertEquals(20.0, function.getY(0), 1e-12);
+        assertEquals(50.0, function.getY(3), 1e-12);
+        function.removeIf(x -> x == 3.0);
+        assertEquals(40.0, function.getY(1), 1e-12);
+        function.insertAll(new double[]{2.5, 10}, new double[]{25, 100});
+        assertEquals(25.0, function.getY(1), 1e-12);
+        assertEquals(100.0, function.getY(function.getCount() - 1), 1e-12);
+        double[] expected = {20, 25, 40, 50, 60, 70, 80, 90, 100};
+        for (int i = 0; i < expected.length; i++) {
+            function.setY(i, function.getY(i) + 1);
+            assertEquals(expected[i] + 1, function.getY(i), 1e-12);
+        }
+        for (int i = expected.length - 1; i >= 0; i -= 3) { // обратный обход с шагом
+            assertEquals(expected[i] + 1, function.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    public void testLargeSweepUsesFinger() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(x -> x, 0, 199999, 200000);
+        double sum = 0;
+        for (int i = 0; i < function.getCount(); i++) { // без пальца это 10^10 переходов по ссылкам
+            function.setY(i, function.getY(i) * 2);
+            sum += function.getY(i);
+        }
+        assertEquals(199999.0 * 200000.0, sum, 1e-3);
+    }
+
+    @Test
+    public void testSkipIndexMatchesPlainList() {
+        Random random = new Random(7);
+        double[] xValues = new double[500];
+        double[] yValues = new double[500];
+        for (int i = 0; i < xValues.length; i++) {
+            xValues[i] = i * 2 + random.nextDouble();
+            yValues[i] = random.nextDouble() * 100;
+        }
+        LinkedListTabulatedFunction plain = new LinkedListTabulatedFunction(xValues, yValues);
+        LinkedListTabulatedFunction indexed = new LinkedListTabulatedFunction(xValues, yValues);
+        indexed.enableSkipIndex(4);
+        assertTrue(indexed.hasSkipIndex());
+
+        for (int step = 0; step < 3000; step++) {
+            int operation = random.nextInt(10);
+            double x = random.nextDouble() * 1100 - 50;
+            if (operation < 4) {
+                double y = random.nextDouble();
+                plain.insert(x, y);
+                indexed.insert(x, y);
+            } else if (operation == 4) {
+                double existing = plain.getX(random.nextInt(plain.getCount()));
+                plain.insert(existing, step);
+                indexed.insert(existing, step);
+            } else if (operation == 5 && plain.getCount() > 10) {
+                int index = random.nextInt(plain.getCount());
+                plain.remove(index);
+                indexed.remove(index);
+            } else if (operation == 6 && plain.getCount() > 20) {
+                int from = random.nextInt(plain.getCount() - 5);
+                plain.removeRange(from, from + 3);
+                indexed.removeRange(from, from + 3);
+            } else {
+                assertEquals(plain.apply(x), indexed.apply(x), 1e-12);
+                double existing = plain.getX(random.nextInt(plain.getCount()));
+                assertEquals(plain.indexOfX(existing), indexed.indexOfX(existing));
+                assertEquals(plain.indexOfX(x), indexed.indexOfX(x));
+                assertEquals(plain.apply(existing), indexed.apply(existing), 1e-12);
+            }
+        }
+        assertEquals(plain.getCount(), indexed.getCount());
+        Iterator<Point> expected = plain.iterator();
+        for (Point point : indexed) {
+            Point reference = expected.next();
+            assertEquals(reference.x, point.x, 0.0);
+            assertEquals(reference.y, point.y, 0.0);
+        }
+        assertFalse(expected.hasNext());
+    }
+
+    @Test
+    public void testSkipIndexOverheadAndToggling() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new double[]{0, 1, 3}, new double[]{0, 10, 30});
+        assertEquals(0, function.getSkipIndexSize());
+        assertThrows(IllegalArgumentException.class, () -> function.enableSkipIndex(1));
+        function.enableSkipIndex(8);
+        for (int i = 4; i < 4096; i++) {
+            function.insert(i, i * 10);
+        }
+        function.insert(2, 20); // вставка в середину
+        function.insert(-1, -10); // вставка в начало
+        assertEquals(4097, function.getCount());
+        assertEquals(20.0, function.getY(3), 1e-12);
+        assertEquals(3, function.indexOfX(2));
+        assertEquals(-10.0, function.apply(-1), 1e-12);
+        assertEquals(25.0, function.apply(2.5), 1e-12);
+        assertEquals(4095.0 * 10 - 5, function.apply(4094.5), 1e-9);
+        int sparse = function.getSkipIndexSize();
+        assertTrue(sparse > 0 && sparse < 4096 / 4);
+
+        function.removeIf(x -> x > 100); // индекс перестраивается при следующем поиске
+        assertEquals(102, function.getCount());
+        assertEquals(100, function.indexOfX(99));
+        function.enableSkipIndex(2);
+        assertTrue(function.getSkipIndexSize() > sparse / 20);
+        function.disableSkipIndex();
+        assertFalse(function.hasSkipIndex());
+        assertEquals(100, function.indexOfX(99));
+    }
+
+    @Test
+    public void testSerializationOfLargeListIsFlatAndCompact() throws Exception {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(x -> x * 0.5, 0, 999999, 1000000);
+        function.insert(0.25, 7); // неравномерная сетка
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BufferedOutputStream out = new BufferedOutputStream(bytes)) {
+            FunctionsIO.serialize(out, function);
+        }
+        assertTrue(bytes.size() < 17 * 1000001); // 16 байт на точку плюс заголовки блочных данных
+        TabulatedFunction restored;
+        try (BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = FunctionsIO.deserialize(in);
+        }
+        assertInstanceOf(LinkedListTabulatedFunction.class, restored);
+        assertEquals(1000001, restored.getCount());
+        assertFalse(((LinkedListTabulatedFunction) restored).isUniform());
+        assertEquals(7.0, restored.getY(1), 0.0);
+        assertEquals(499999.5, restored.getY(1000000), 0.0);
+        assertEquals(function.apply(123.4), restored.apply(123.4), 0.0);
+        restored.setY(2, 1); // связи узлов восстановлены в обе стороны
+        assertEquals(1.0, restored.getY(2), 0.0);
+        ((LinkedListTabulatedFunction) restored).insert(-1, -1);
+        assertEquals(-1.0, restored.leftBound(), 0.0);
+    }
 }
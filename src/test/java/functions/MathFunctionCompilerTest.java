@@ -0,0 +1,57 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MathFunctionCompilerTest {
+
+    @Test
+    public void testCompiledTreeIsBitIdentical() {
+        ArrayTabulatedFunction table = new ArrayTabulatedFunction(Math::sin, -2.0, 30.0, 257);
+        MathFunction tree = new CompositeFunction(
+                new SqrFunction().andThen(new IdentityFunction()).andThen(table),
+                new CompositeFunction(x -> 3 * x + 0.1, new SqrFunction()).andThen(Math::cbrt));
+        MathFunction compiled = MathFunctionCompiler.compile(tree);
+
+        for (double x = -5.0; x <= 5.0; x += 0.0137) {
+            assertEquals(Double.doubleToRawLongBits(tree.apply(x)), Double.doubleToRawLongBits(compiled.apply(x)));
+        }
+        assertTrue(Double.isNaN(compiled.apply(Double.NaN)));
+    }
+
+    @Test
+    public void testConstantStagesKeepLeafCalls() {
+        AtomicInteger calls = new AtomicInteger();
+        MathFunction counting = x -> {
+            calls.incrementAndGet();
+            return x;
+        };
+        MathFunction compiled = MathFunctionCompiler.compile(counting.andThen(new UnitFunction()).andThen(x -> x + 1));
+        assertEquals(2.0, compiled.apply(7.0), 0.0);
+        assertEquals(1, calls.get());
+        assertEquals(0.0, MathFunctionCompiler.compile(new ZeroFunction()).apply(3.0), 0.0);
+        assertEquals(4.5, MathFunctionCompiler.compile(new IdentityFunction()).apply(4.5), 0.0);
+    }
+
+    @Test
+    public void testLeavesSeeTableUpdates() {
+        ArrayTabulatedFunction table = new ArrayTabulatedFunction(new double[]{0.0, 1.0}, new double[]{0.0, 1.0});
+        MathFunction compiled = MathFunctionCompiler.compile(table.andThen(new SqrFunction()));
+        assertEquals(0.25, compiled.apply(0.5), 1e-15);
+        table.setY(1, 2.0);
+        assertEquals(1.0, compiled.apply(0.5), 1e-15);
+    }
+
+    @Test
+    public void testLargeTreeFallsBackToPipeline() {
+        MathFunction chain = new IdentityFunction();
+        for (int i = 0; i < 3000; i++) {
+            chain = chain.andThen(x -> x + 1);
+        }
+        MathFunction compiled = MathFunctionCompiler.compile(chain);
+        assertInstanceOf(FunctionPipeline.class, compiled);
+        assertEquals(3000.0, compiled.apply(0.0), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> MathFunctionCompiler.compile(null));
+    }
+}
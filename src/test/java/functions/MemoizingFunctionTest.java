@@ -0,0 +1,126 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class MemoizingFunctionTest {
+
+    @Test
+    public void testRepeatedQueriesAreCached() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizingFunction function = new MemoizingFunction(x -> {
+            calls.incrementAndGet();
+            return x * x;
+        }, 100, 0, 1); // одна полоса: ёмкость не делится и вытеснений не будет
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i * i, function.apply(i), 0.0);
+            }
+        }
+        assertEquals(50, calls.get());
+        assertEquals(50, function.getMissCount());
+        assertEquals(100, function.getHitCount());
+        assertEquals(0, function.getEvictionCount());
+        assertEquals(50, function.size());
+
+        function.clear();
+        assertEquals(0, function.size());
+        function.apply(3.0);
+        assertEquals(51, calls.get());
+    }
+
+    @Test
+    public void testEvictionKeepsSizeBounded() {
+        MemoizingFunction function = new MemoizingFunction(new SqrFunction(), 64, 0, 4);
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(Math.pow(i * 0.5, 2), function.apply(i * 0.5), 0.0);
+            assertTrue(function.size() <= 64);
+        }
+        assertTrue(function.getEvictionCount() >= 10_000 - 64);
+        for (int i = 0; i < 10_000; i += 7) { // после вытеснений таблица остаётся согласованной
+            assertEquals(Math.pow(i * 0.5, 2), function.apply(i * 0.5), 0.0);
+        }
+    }
+
+    @Test
+    public void testHotKeysSurviveClockEviction() {
+        MemoizingFunction function = new MemoizingFunction(x -> x + 1, 8, 0, 1);
+        for (int i = 0; i < 1000; i++) {
+            function.apply(-1.0); // горячий ключ получает бит обращения
+            function.apply(i);
+        }
+        long missesBefore = function.getMissCount();
+        function.apply(-1.0);
+        assertEquals(missesBefore, function.getMissCount());
+    }
+
+    @Test
+    public void testQuantization() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizingFunction function = new MemoizingFunction(x -> {
+            calls.incrementAndGet();
+            return x;
+        }, 16, 0.25, 2);
+        assertEquals(1.0, function.apply(0.9), 0.0);
+        assertEquals(1.0, function.apply(1.1), 0.0);
+        assertEquals(0.75, function.apply(0.7), 0.0);
+        assertEquals(2, calls.get());
+        assertTrue(Double.isNaN(function.apply(Double.NaN)));
+        assertThrows(IllegalArgumentException.class, () -> new MemoizingFunction(x -> x, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MemoizingFunction(x -> x, 10, -1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new MemoizingFunction(null, 10));
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        MemoizingFunction function = new MemoizingFunction(Math::sin, 256);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 50_000; i++) {
+                        double x = random.nextInt(512) * 0.01;
+                        assertEquals(Math.sin(x), function.apply(x), 0.0);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(200_000, function.getHitCount() + function.getMissCount());
+        assertTrue(function.size() <= 256);
+    }
+
+
+    @Test
+    public void testGridAlignedKeysDoNotCluster() {
+        MemoizingFunction integers = new MemoizingFunction(x -> x, 1000, 0, 1);
+        for (int i = 0; i < 1000; i++) {
+            integers.apply(i);
+        }
+        assertEquals(1000, integers.size());
+        assertTrue(integers.maxProbeLength() < 32, "probe length " + integers.maxProbeLength());
+
+        MemoizingFunction grid = new MemoizingFunction(x -> x, 4096, 0.5, 1);
+        for (int i = 0; i < 4096; i++) {
+            grid.apply(i * 0.5 - 1000);
+        }
+        assertEquals(4096, grid.size());
+        assertEquals(0, grid.getEvictionCount());
+        assertTrue(grid.maxProbeLength() < 32, "probe length " + grid.maxProbeLength());
+    }
+}
@@ -0,0 +1,114 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class NewtonBatchSolverTest {
+
+    @Test
+    public void testMatchesNewtonMetodOnConvergentStarts() {
+        MathFunction f = x -> x * x - 2;
+        MathFunction df = x -> 2 * x;
+        NewtonMetod single = new NewtonMetod(f, df);
+        double[] starts = new double[1000];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = (i % 2 == 0 ? 1 : -1) * (0.5 + i * 0.01);
+        }
+        BatchRootSolution solution = new NewtonBatchSolver(f, df).solve(starts);
+
+        assertEquals(1000, solution.getCount());
+        assertEquals(1000, solution.getConvergedCount());
+        for (int i = 0; i < starts.length; i++) {
+            assertEquals(RootStatus.CONVERGED, solution.getStatus(i));
+            assertEquals(single.apply(starts[i]), solution.getRoot(i), 0.0);
+            assertTrue(solution.getIterations(i) > 0);
+        }
+        assertEquals(2 * solution.getTotalIterations(), solution.getEvaluations());
+        assertTrue(solution.getMeanIterations() <= solution.getMaxIterations());
+    }
+
+    @Test
+    public void testFallsBackToBracketingWhenNewtonDiverges() {
+        // у cbrt метод Ньютона уходит в бесконечность из любой ненулевой точки
+        MathFunction f = Math::cbrt;
+        MathFunction df = x -> 1.0 / (3 * Math.cbrt(x) * Math.cbrt(x));
+        BatchRootSolution solution = new NewtonBatchSolver(f, df).tolerance(1e-10).maxIterations(30)
+                .solve(new double[]{1.0, -3.0, 1e6}, new ForkJoinPool(2));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(RootStatus.BRACKETED, solution.getStatus(i));
+            assertEquals(0.0, solution.getRoot(i), 1e-9);
+            assertTrue(solution.getIterations(i) > 30);
+        }
+        assertEquals(3, solution.getBracketedCount());
+    }
+
+    @Test
+    public void testReportsFailureWithoutRoot() {
+        BatchRootSolution solution = new NewtonBatchSolver(x -> x * x + 1, x -> 2 * x)
+                .maxIterations(20).bracket(0.1, 10).solve(new double[]{0.0, 2.0});
+
+        assertEquals(2, solution.getFailedCount());
+        assertEquals(RootStatus.FAILED, solution.getStatus(0));
+        assertEquals(0, solution.getConvergedCount() + solution.getBracketedCount());
+        assertEquals(2, solution.getRoots().length);
+    }
+
+    @Test
+    public void testParallelBatchAndValidation() {
+        MathFunction f = x -> Math.sin(x);
+        double[] starts = new double[10_000];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = 0.1 + (i % 100) * 0.05; // корни 0, pi, 2pi...
+        }
+        BatchRootSolution solution = new NewtonBatchSolver(f, Math::cos).tolerance(1e-12).solve(starts);
+        for (int i = 0; i < starts.length; i++) {
+            double root = solution.getRoot(i);
+            assertEquals(0.0, Math.sin(root), 1e-9);
+        }
+        assertEquals(0, solution.getFailedCount());
+
+        assertThrows(IllegalArgumentException.class, () -> new NewtonBatchSolver(f, null));
+        assertThrows(IllegalArgumentException.class, () -> new NewtonBatchSolver(f, Math::cos).tolerance(0));
+        assertThrows(IllegalArgumentException.class, () -> new NewtonBatchSolver(f, Math::cos).maxIterations(0));
+        assertThrows(IllegalArgumentException.class, () -> new NewtonBatchSolver(f, Math::cos).bracket(-1, 3));
+    }
+
+
+    @Test
+    public void testTinySameSignResidualsAreNotABracket() {
+        BatchRootSolution solution = new NewtonBatchSolver(x -> 1e-200 * (1 + x * x), x -> 0.0)
+                .maxIterations(5).bracket(0.5, 8).solve(new double[]{0.0, 3.0});
+
+        assertEquals(RootStatus.FAILED, solution.getStatus(0));
+        assertEquals(RootStatus.FAILED, solution.getStatus(1));
+        assertEquals(0, solution.getBracketedCount());
+
+        BatchRootSolution tiny = new NewtonBatchSolver(x -> 1e-200 * x, x -> 0.0)
+                .maxIterations(5).tolerance(1e-12).solve(new double[]{0.3});
+        assertEquals(RootStatus.BRACKETED, tiny.getStatus(0));
+        assertEquals(0.0, tiny.getRoot(0), 1e-11);
+    }
+
+
+    @Test
+    public void testBracketEndpointOnRootIsReturned() {
+        MathFunction f = x -> Math.cbrt(x - 0.99);
+        MathFunction df = x -> 1.0 / (3 * Math.cbrt(x - 0.99) * Math.cbrt(x - 0.99));
+        BatchRootSolution solution = new NewtonBatchSolver(f, df).maxIterations(30).solve(new double[]{1.0});
+
+        assertEquals(RootStatus.BRACKETED, solution.getStatus(0));
+        assertEquals(0.0, f.apply(solution.getRoot(0)), 0.0);
+        assertEquals(0.99, solution.getRoot(0), 1e-12);
+    }
+
+    @Test
+    public void testFailedPointReportsStart() {
+        BatchRootSolution solution = new NewtonBatchSolver(x -> x * x + 1, x -> 2 * x)
+                .maxIterations(20).bracket(0.1, 10).solve(new double[]{0.5, -3.0});
+        assertEquals(RootStatus.FAILED, solution.getStatus(0));
+        assertEquals(0.5, solution.getRoot(0), 0.0);
+        assertEquals(-3.0, solution.getRoot(1), 0.0);
+    }
+}
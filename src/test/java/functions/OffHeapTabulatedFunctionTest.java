@@ -0,0 +1,146 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.lang.foreign.Arena;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class OffHeapTabulatedFunctionTest {
+
+    @Test
+    public void testConstructorWithArrays() {
+        try (Arena arena = Arena.ofConfined()) {
+            double[] xValues = {1.0, 2.0, 3.0, 4.0};
+            double[] yValues = {2.0, 4.0, 6.0, 8.0};
+            OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(arena, xValues, yValues);
+
+            assertEquals(4, function.getCount());
+            assertEquals(1.0, function.leftBound(), 1e-10);
+            assertEquals(4.0, function.rightBound(), 1e-10);
+            assertEquals(6.0, function.getY(2), 1e-10);
+        }
+    }
+
+    @Test
+    public void testConstructorWithFunctionMatchesArrayFunction() {
+        try (Arena arena = Arena.ofConfined()) {
+            OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(arena, new SqrFunction(), 4.0, 0.0, 9);
+            ArrayTabulatedFunction reference = new ArrayTabulatedFunction(new SqrFunction(), 4.0, 0.0, 9);
+
+            for (int i = 0; i < reference.getCount(); i++) {
+                assertEquals(reference.getX(i), function.getX(i), 0.0);
+                assertEquals(reference.getY(i), function.getY(i), 0.0);
+            }
+            for (double x = -1.0; x <= 5.0; x += 0.37) {
+                assertEquals(reference.apply(x), function.apply(x), 0.0);
+            }
+            assertEquals(reference.indexOfX(1.5), function.indexOfX(1.5));
+            assertEquals(-1, function.indexOfX(1.6));
+        }
+    }
+
+    @Test
+    public void testInsertAndRemove() {
+        try (Arena arena = Arena.ofConfined()) {
+            OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(arena, new double[]{1.0, 3.0}, new double[]{10.0, 30.0});
+
+            function.insert(2.0, 20.0);
+            function.insert(0.0, 0.0);
+            for (int i = 4; i < 100; i++) {
+                function.insert(i, i * 10.0);
+            }
+            function.insert(3.0, 33.0);
+
+            assertEquals(100, function.getCount());
+            assertTrue(function.getCapacity() >= 100);
+            assertEquals(33.0, function.getY(3), 1e-10);
+
+            function.remove(0);
+            function.removeRange(90, 99);
+            assertTrue(function.removeIf(x -> x > 50.0));
+
+            assertEquals(50, function.getCount());
+            assertEquals(1.0, function.leftBound(), 1e-10);
+            assertEquals(50.0, function.rightBound(), 1e-10);
+            assertEquals(26.5, function.apply(2.5), 1e-10);
+            assertThrows(IllegalStateException.class, () -> function.removeRange(0, 49));
+        }
+    }
+
+    @Test
+    public void testIndexErrors() {
+        try (Arena arena = Arena.ofConfined()) {
+            OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(arena, new double[]{1.0, 2.0}, new double[]{1.0, 4.0});
+
+            assertThrows(IllegalArgumentException.class, () -> function.getX(2));
+            assertThrows(IllegalArgumentException.class, () -> function.setY(-1, 0.0));
+            assertThrows(IllegalArgumentException.class, () -> function.floorIndexOfX(0.0));
+            assertThrows(IllegalStateException.class, () -> function.remove(0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new OffHeapTabulatedFunction(arena, new double[]{1.0}, new double[]{1.0}));
+        }
+    }
+
+    @Test
+    public void testIterator() {
+        try (Arena arena = Arena.ofConfined()) {
+            double[] xValues = {1.0, 2.0, 3.0};
+            double[] yValues = {4.0, 5.0, 6.0};
+            OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(arena, xValues, yValues);
+            Iterator<Point> iterator = function.iterator();
+            int index = 0;
+            while (iterator.hasNext()) {
+                Point point = iterator.next();
+                assertEquals(xValues[index], point.x, 1e-10);
+                assertEquals(yValues[index], point.y, 1e-10);
+                index++;
+            }
+            assertEquals(3, index);
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    @Test
+    public void testMemoryIsFreedWithArena() {
+        Arena arena = Arena.ofConfined();
+        OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(arena, new double[]{1.0, 2.0}, new double[]{1.0, 4.0});
+        assertEquals(2.5, function.apply(1.5), 1e-10);
+
+        arena.close();
+
+        assertThrows(IllegalStateException.class, () -> function.apply(1.5));
+    }
+
+
+    @Test
+    public void testIndexOfXReturnsLeftmostMatch() {
+        try (Arena arena = Arena.ofConfined()) {
+            double[] xValues = {0.0, 1.0, 1.0 + 4e-13, 1.0 + 8e-13, 2.0};
+            double[] yValues = {0.0, 1.0, 2.0, 3.0, 4.0};
+            OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(arena, xValues, yValues);
+            ArrayTabulatedFunction reference = new ArrayTabulatedFunction(xValues, yValues);
+            for (double x : new double[]{1.0, 1.0 + 4e-13, 1.0 + 8e-13, 1.0 + 1.5e-12, 0.0, 2.0, 0.5}) {
+                assertEquals(reference.indexOfX(x), function.indexOfX(x));
+            }
+            assertEquals(1, function.indexOfX(1.0 + 8e-13));
+        }
+    }
+
+    @Test
+    public void testCursor() {
+        try (Arena arena = Arena.ofConfined()) {
+            OffHeapTabulatedFunction function = new OffHeapTabulatedFunction(arena, new double[]{1.0, 2.0, 3.0}, new double[]{10.0, 20.0, 30.0});
+            function.insert(2.5, 25.0);
+            PointCursor cursor = function.cursor();
+            int i = 0;
+            while (cursor.advance()) {
+                assertEquals(function.getX(i), cursor.x(), 0.0);
+                assertEquals(function.getY(i), cursor.y(), 0.0);
+                i++;
+            }
+            assertEquals(4, i);
+            assertFalse(cursor.advance());
+        }
+    }
+}
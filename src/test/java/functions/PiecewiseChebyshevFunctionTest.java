@@ -0,0 +1,42 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiecewiseChebyshevFunctionTest {
+
+    @Test
+    public void testAccuracyOnComposition() {
+        MathFunction source = new SqrFunction().andThen(Math::sin).andThen(Math::exp);
+        PiecewiseChebyshevFunction approximation = PiecewiseChebyshevFunction.compile(source, 3.0, 0.0, 1e-10);
+
+        assertEquals(0.0, approximation.leftBound(), 0.0);
+        assertEquals(3.0, approximation.rightBound(), 0.0);
+        assertTrue(approximation.getMaxError() <= 1e-10);
+        for (double x = 0.0; x <= 3.0; x += 1e-4) {
+            assertEquals(source.apply(x), approximation.apply(x), 1e-9);
+        }
+        // таблица с той же точностью заняла бы сотни тысяч точек
+        assertTrue(approximation.getCoefficientCount() < 2000);
+    }
+
+    @Test
+    public void testPolynomialIsExactWithOnePiece() {
+        MathFunction cubic = x -> x * x * x - 2 * x + 1;
+        PiecewiseChebyshevFunction approximation = PiecewiseChebyshevFunction.compile(cubic, -2.0, 2.0, 1e-12, 3);
+
+        assertEquals(1, approximation.getPieceCount());
+        assertEquals(3, approximation.getDegree());
+        assertEquals(4, approximation.getCoefficientCount());
+        assertEquals(cubic.apply(0.7), approximation.apply(0.7), 1e-12);
+        assertEquals(cubic.apply(3.0), approximation.apply(3.0), 1e-10); // продолжение крайнего многочлена
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> PiecewiseChebyshevFunction.compile(x -> x, 1.0, 1.0, 1e-6));
+        assertThrows(IllegalArgumentException.class, () -> PiecewiseChebyshevFunction.compile(x -> x, 0.0, 1.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> PiecewiseChebyshevFunction.compile(x -> x, 0.0, 1.0, 1e-6, 0));
+        assertTrue(Double.isNaN(PiecewiseChebyshevFunction.compile(x -> x, 0.0, 1.0, 1e-6).apply(Double.NaN)));
+    }
+}
@@ -0,0 +1,162 @@
+package functions;
+
+import io.FunctionsIO;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class UnrolledLinkedListTabulatedFunctionTest {
+
+    @Test
+    public void testConstructorsMatchArrayFunction() {
+        UnrolledLinkedListTabulatedFunction function = new UnrolledLinkedListTabulatedFunction(new SqrFunction(), 4.0, 0.0, 101, 8);
+        ArrayTabulatedFunction reference = new ArrayTabulatedFunction(new SqrFunction(), 4.0, 0.0, 101);
+
+        assertEquals(101, function.getCount());
+        assertEquals(13, function.getBlockCount());
+        for (int i = 0; i < reference.getCount(); i++) {
+            assertEquals(reference.getX(i), function.getX(i), 0.0);
+            assertEquals(reference.getY(i), function.getY(i), 0.0);
+        }
+        for (double x = -1.0; x <= 5.0; x += 0.037) {
+            assertEquals(reference.apply(x), function.apply(x), 0.0);
+        }
+        assertEquals(reference.indexOfX(1.6), function.indexOfX(1.6));
+        assertEquals(-1, function.indexOfX(1.61));
+        assertEquals(reference.indexOfY(4.0), function.indexOfY(4.0));
+        assertEquals(0.0, function.leftBound(), 0.0);
+        assertEquals(4.0, function.rightBound(), 0.0);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedListTabulatedFunction(new double[]{1}, new double[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedListTabulatedFunction(new double[]{1, 2}, new double[]{1, 2}, 2));
+        UnrolledLinkedListTabulatedFunction function = new UnrolledLinkedListTabulatedFunction(new double[]{1, 2}, new double[]{1, 2});
+        assertThrows(IllegalArgumentException.class, () -> function.getY(2));
+        assertThrows(IllegalStateException.class, () -> function.remove(0));
+        assertThrows(IllegalArgumentException.class, () -> function.remove(5));
+    }
+
+    @Test
+    public void testInsertAndRemoveMatchLinkedList() {
+        Random random = new Random(3);
+        LinkedListTabulatedFunction reference = new LinkedListTabulatedFunction(new double[]{0, 1000}, new double[]{0, 1});
+        UnrolledLinkedListTabulatedFunction function = new UnrolledLinkedListTabulatedFunction(new double[]{0, 1000}, new double[]{0, 1}, 4);
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || reference.getCount() < 10) {
+                double x = Math.floor(random.nextDouble() * 1000 * 4) / 4; // часть вставок попадает в существующие x
+                reference.insert(x, step);
+                function.insert(x, step);
+            } else if (operation == 2) {
+                int index = random.nextInt(reference.getCount());
+                reference.remove(index);
+                function.remove(index);
+            } else {
+                double x = random.nextDouble() * 1200 - 100;
+                assertEquals(reference.apply(x), function.apply(x), 1e-9);
+            }
+        }
+        assertEquals(reference.getCount(), function.getCount());
+        for (int i = 0; i < reference.getCount(); i++) {
+            assertEquals(reference.getX(i), function.getX(i), 0.0);
+            assertEquals(reference.getY(i), function.getY(i), 0.0);
+        }
+        assertTrue(function.getBlockCount() <= function.getCount()); // почти пустые блоки сливаются
+    }
+
+    @Test
+    public void testRemoveIfAndRange() {
+        UnrolledLinkedListTabulatedFunction function = new UnrolledLinkedListTabulatedFunction(x -> x, 0, 99, 100, 8);
+        assertTrue(function.removeIf(x -> x % 2 == 1));
+        assertFalse(function.removeIf(x -> x > 1000));
+        assertEquals(50, function.getCount());
+        assertEquals(7, function.getBlockCount());
+        assertEquals(98.0, function.rightBound(), 0.0);
+        assertEquals(3.0, function.apply(3.0), 1e-12);
+        function.removeRange(10, 40);
+        assertEquals(20, function.getCount());
+        assertEquals(80.0, function.getX(10), 0.0);
+        assertThrows(IllegalStateException.class, () -> function.removeIf(x -> x > 0));
+    }
+
+    @Test
+    public void testIteratorAndCursor() {
+        UnrolledLinkedListTabulatedFunction function = new UnrolledLinkedListTabulatedFunction(x -> 2 * x, 0, 9, 10, 4);
+        Iterator<Point> iterator = function.iterator();
+        for (int i = 0; i < 10; i++) {
+            Point point = iterator.next();
+            assertEquals(i, point.x, 0.0);
+            assertEquals(2 * i, point.y, 0.0);
+        }
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        PointCursor cursor = function.cursor();
+        int visited = 0;
+        while (cursor.advance()) {
+            assertEquals(2 * cursor.x(), cursor.y(), 0.0);
+            visited++;
+        }
+        assertEquals(10, visited);
+        assertEquals(function.ys().sum(), function.ys().parallel().sum(), 1e-12);
+    }
+
+
+    @Test
+    public void testRemoveIfEvaluatesStatefulPredicateOnce() {
+        UnrolledLinkedListTabulatedFunction function = new UnrolledLinkedListTabulatedFunction(x -> 2 * x, 0, 19, 20, 4);
+        int[] calls = {0};
+        assertTrue(function.removeIf(x -> calls[0]++ % 3 != 0)); // каждый второй вызов дал бы другой ответ
+        assertEquals(20, calls[0]);
+        assertEquals(7, function.getCount());
+        for (int i = 0; i < 7; i++) {
+            assertEquals(3.0 * i, function.getX(i), 0.0);
+            assertEquals(6.0 * i, function.getY(i), 0.0);
+        }
+        assertEquals(2, function.getBlockCount());
+
+        int[] flips = {0};
+        assertThrows(IllegalStateException.class, () -> function.removeIf(x -> flips[0]++ < 6));
+        assertEquals(7, flips[0]);
+        assertEquals(7, function.getCount());
+        assertEquals(0.0, function.leftBound(), 0.0);
+        assertEquals(18.0, function.rightBound(), 0.0);
+    }
+
+
+    @Test
+    public void testSerializationRoundTrip() throws Exception {
+        UnrolledLinkedListTabulatedFunction function = new UnrolledLinkedListTabulatedFunction(x -> x * x, 0, 99, 100, 8);
+        function.removeIf(x -> x % 3 == 0); // частично заполненные блоки
+        function.insert(0.5, -1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BufferedOutputStream out = new BufferedOutputStream(bytes)) {
+            FunctionsIO.serialize(out, function);
+        }
+        assertTrue(bytes.size() < 16 * function.getCount() + 1024); // плоские массивы, без объектов блоков
+        TabulatedFunction restored;
+        try (BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = FunctionsIO.deserialize(in);
+        }
+        UnrolledLinkedListTabulatedFunction unrolled = assertInstanceOf(UnrolledLinkedListTabulatedFunction.class, restored);
+        assertEquals(function.getCount(), unrolled.getCount());
+        assertEquals(8, unrolled.getBlockCapacity());
+        assertEquals((function.getCount() + 7) / 8, unrolled.getBlockCount());
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(function.getX(i), unrolled.getX(i), 0.0);
+            assertEquals(function.getY(i), unrolled.getY(i), 0.0);
+        }
+        assertEquals(function.apply(42.5), unrolled.apply(42.5), 0.0);
+        unrolled.insert(-1, 1); // цепочка блоков восстановлена
+        unrolled.remove(unrolled.getCount() - 1);
+        assertEquals(-1.0, unrolled.leftBound(), 0.0);
+        assertEquals(function.getX(function.getCount() - 2), unrolled.rightBound(), 0.0);
+    }
+}
@@ -0,0 +1,83 @@
+package functions.factory;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.MathFunction;
+import functions.TabulatedFunction;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveTabulationBuilderTest {
+
+    @Test
+    public void testErrorStaysWithinTolerance() {
+        MathFunction source = x -> Math.exp(5 * x);
+        AdaptiveTabulation tabulation = new AdaptiveTabulationBuilder(source)
+                .interval(2.0, 0.0)
+                .tolerance(1e-3)
+                .build();
+        TabulatedFunction function = tabulation.getFunction();
+
+        assertInstanceOf(ArrayTabulatedFunction.class, function);
+        assertEquals(0.0, function.leftBound(), 0.0);
+        assertEquals(2.0, function.rightBound(), 0.0);
+        assertEquals(tabulation.getPointCount(), function.getCount());
+        assertTrue(tabulation.getMaxError() <= 1e-3);
+        for (double x = 0.0; x <= 2.0; x += 1e-4) {
+            assertEquals(source.apply(x), function.apply(x), 1e-3);
+        }
+    }
+
+    @Test
+    public void testGridIsDenserWhereFunctionCurves() {
+        AdaptiveTabulation tabulation = new AdaptiveTabulationBuilder(x -> Math.exp(5 * x))
+                .interval(0.0, 2.0)
+                .tolerance(1e-3)
+                .build();
+        TabulatedFunction function = tabulation.getFunction();
+        double firstStep = function.getX(1) - function.getX(0);
+        double lastStep = function.getX(function.getCount() - 1) - function.getX(function.getCount() - 2);
+        assertTrue(firstStep > 4 * lastStep);
+
+        assertTrue(tabulation.getSavedPoints() > 0);
+        assertTrue(tabulation.getSavedEvaluations() > 0);
+        assertEquals(tabulation.getPointCount(), tabulation.getEvaluations()); // ни одно вычисление не выброшено
+        assertEquals(tabulation.getUniformPointCount() - tabulation.getPointCount(), tabulation.getSavedPoints());
+        assertTrue(tabulation.toString().contains("saved points"));
+    }
+
+    @Test
+    public void testLinearFunctionNeedsOnlyMinimalRefinement() {
+        AdaptiveTabulation tabulation = new AdaptiveTabulationBuilder(x -> 3 * x + 1)
+                .interval(-1.0, 1.0)
+                .depth(2, 10)
+                .factory(new LinkedListTabulatedFunctionFactory())
+                .build();
+        assertInstanceOf(LinkedListTabulatedFunction.class, tabulation.getFunction());
+        assertEquals(9, tabulation.getPointCount()); // 4 интервала глубины 2 и их проверочные середины
+        assertEquals(9, tabulation.getEvaluations());
+        assertEquals(9, tabulation.getUniformPointCount());
+        assertEquals(0, tabulation.getSavedEvaluations());
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        AdaptiveTabulationBuilder builder = new AdaptiveTabulationBuilder(x -> x);
+        assertThrows(IllegalArgumentException.class, () -> builder.tolerance(0.0));
+        assertThrows(IllegalArgumentException.class, () -> builder.depth(5, 3));
+        assertThrows(IllegalArgumentException.class, () -> builder.interval(1.0, 1.0).build());
+    }
+
+
+    @Test
+    public void testUniformCurvatureSavesNothingButNeverLoses() {
+        AdaptiveTabulation tabulation = new AdaptiveTabulationBuilder(x -> x * x)
+                .interval(0.0, 1.0)
+                .tolerance(1e-4)
+                .build();
+        assertEquals(tabulation.getPointCount(), tabulation.getEvaluations());
+        assertEquals(0, tabulation.getSavedPoints()); // одинаковая кривизна: адаптивная сетка совпадает с равномерной
+        assertEquals(0, tabulation.getSavedEvaluations());
+        assertTrue(tabulation.getMaxError() <= 1e-4);
+    }
+}
@@ -2,9 +2,18 @@ package functions.factory;
 
 import functions.ArrayTabulatedFunction;
 import functions.LinkedListTabulatedFunction;
+import functions.MathFunction;
+import functions.NewtonMetod;
+import functions.OffHeapTabulatedFunction;
 import functions.TabulatedFunction;
+import functions.UnrolledLinkedListTabulatedFunction;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import exceptions.ArrayIsNotSortedException;
+import java.util.Random;
 
 public class TabulatedFunctionFactoryTest {
 
@@ -42,4 +51,212 @@ public class TabulatedFunctionFactoryTest {
         assertEquals(1.0, function.getX(0), 1e-10);
         assertEquals(4.0, function.getY(0), 1e-10);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testOffHeapTabulatedFunctionFactory() {
+        try (OffHeapTabulatedFunctionFactory factory = new OffHeapTabulatedFunctionFactory()) {
+            double[] xValues = {1.0, 2.0, 3.0};
+            double[] yValues = {4.0, 5.0, 6.0};
+
+            TabulatedFunction function = factory.create(xValues, yValues);
+
+            assertInstanceOf(OffHeapTabulatedFunction.class, function);
+            assertEquals(5.5, function.apply(2.5), 1e-10);
+        }
+    }
+
+    @Test
+    public void testParallelTabulationIsBitIdentical() {
+        MathFunction source = new NewtonMetod(x -> x * x - 2, x -> 2 * x).andThen(Math::sin);
+        ArrayTabulatedFunction sequential = new ArrayTabulatedFunction(source, 10.0, 0.5, 20001);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (TabulatedFunctionFactory factory : new TabulatedFunctionFactory[]{
+                    new ArrayTabulatedFunctionFactory(), new LinkedListTabulatedFunctionFactory()}) {
+                TabulatedFunction fromPool = factory.tabulate(source, 10.0, 0.5, 20001, pool);
+                TabulatedFunction fromExecutor = factory.tabulate(source, 10.0, 0.5, 20001, executor);
+                TabulatedFunction fromLoop = factory.tabulate(source, 10.0, 0.5, 20001);
+                for (int i = 0; i < sequential.getCount(); i++) {
+                    assertEquals(Double.doubleToRawLongBits(sequential.getX(i)), Double.doubleToRawLongBits(fromPool.getX(i)));
+                    assertEquals(Double.doubleToRawLongBits(sequential.getY(i)), Double.doubleToRawLongBits(fromPool.getY(i)));
+                    assertEquals(Double.doubleToRawLongBits(sequential.getY(i)), Double.doubleToRawLongBits(fromExecutor.getY(i)));
+                    assertEquals(Double.doubleToRawLongBits(sequential.getY(i)), Double.doubleToRawLongBits(fromLoop.getY(i)));
+                }
+            }
+        } finally {
+            pool.shutdown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelTabulationPropagatesSourceException() {
+        TabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+        MathFunction failing = x -> {
+            if (x > 50) {
+                throw new ArithmeticException("boom");
+            }
+            return x;
+        };
+        assertThrows(ArithmeticException.class, () -> factory.tabulate(failing, 0, 100, 10001, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class, () -> factory.tabulate(x -> x, 0, 1, 1));
+    }
+
+    @Test
+    public void testUnrolledLinkedListTabulatedFunctionFactory() {
+        UnrolledLinkedListTabulatedFunctionFactory factory = new UnrolledLinkedListTabulatedFunctionFactory(16);
+        TabulatedFunction function = factory.create(new double[]{1.0, 2.0, 3.0}, new double[]{4.0, 5.0, 6.0});
+
+        assertInstanceOf(UnrolledLinkedListTabulatedFunction.class, function);
+        assertEquals(16, ((UnrolledLinkedListTabulatedFunction) function).getBlockCapacity());
+        assertEquals(UnrolledLinkedListTabulatedFunction.DEFAULT_BLOCK_CAPACITY,
+                new UnrolledLinkedListTabulatedFunctionFactory().getBlockCapacity());
+    }
+
+    @Test
+    public void testCreateOwned() {
+        double[] xValues = {1.0, 2.0, 3.0};
+        double[] yValues = {4.0, 5.0, 6.0};
+        TabulatedFunction owned = new ArrayTabulatedFunctionFactory().createOwned(xValues, yValues);
+        yValues[0] = 7.0;
+        assertEquals(7.0, owned.getY(0), 0.0);
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new ArrayTabulatedFunctionFactory().createOwned(new double[]{2.0, 1.0}, new double[]{1.0, 2.0}));
+
+        double[] listY = {4.0, 5.0, 6.0};
+        TabulatedFunction copied = new LinkedListTabulatedFunctionFactory().createOwned(xValues, listY, false);
+        assertInstanceOf(LinkedListTabulatedFunction.class, copied);
+        assertEquals(4.0, copied.getY(0), 0.0);
+    }
+
+
+    @Test
+    public void testCreateFromUnsortedMergesDuplicates() {
+        TabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+        double[] xValues = {3.0, 1.0, 2.0, 1.0 + 1e-13, 3.0, 1.0};
+        double[] yValues = {30.0, 10.0, 20.0, 11.0, 33.0, 12.0};
+
+        TabulatedFunction last = factory.createFromUnsorted(xValues.clone(), yValues.clone(), DuplicatePolicy.LAST_WINS);
+        assertEquals(3, last.getCount());
+        assertEquals(1.0, last.getX(0), 0.0);
+        assertEquals(11.0, last.getY(0), 0.0); // 1.0 + 1e-13 после сортировки идёт последней
+        assertEquals(20.0, last.getY(1), 0.0);
+        assertEquals(33.0, last.getY(2), 0.0);
+
+        TabulatedFunction average = factory.createFromUnsorted(xValues.clone(), yValues.clone(), DuplicatePolicy.AVERAGE);
+        assertEquals(11.0, average.getY(0), 1e-12);
+        assertEquals(31.5, average.getY(2), 1e-12);
+        assertEquals(10.0, factory.createFromUnsorted(xValues.clone(), yValues.clone(), DuplicatePolicy.MIN).getY(0), 0.0);
+        assertEquals(12.0, factory.createFromUnsorted(xValues.clone(), yValues.clone(), DuplicatePolicy.MAX).getY(0), 0.0);
+
+        assertInstanceOf(LinkedListTabulatedFunction.class, new LinkedListTabulatedFunctionFactory()
+                .createFromUnsorted(xValues.clone(), yValues.clone(), DuplicatePolicy.LAST_WINS));
+        assertThrows(IllegalArgumentException.class, () -> factory.createFromUnsorted(
+                new double[]{1.0, 1.0}, new double[]{1.0, 2.0}, DuplicatePolicy.AVERAGE));
+        assertThrows(IllegalArgumentException.class, () -> factory.createFromUnsorted(
+                new double[]{1.0, Double.NaN}, new double[]{1.0, 2.0}, DuplicatePolicy.AVERAGE));
+    }
+
+    @Test
+    public void testCreateFromUnsortedLargeInput() {
+        int count = 200_000;
+        Random random = new Random(42);
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = random.nextInt(count / 2); // много повторов
+            yValues[i] = xValues[i] * 2 + i;
+        }
+        double[] lastY = new double[count / 2];
+        boolean[] present = new boolean[count / 2];
+        for (int i = 0; i < count; i++) {
+            lastY[(int) xValues[i]] = yValues[i];
+            present[(int) xValues[i]] = true;
+        }
+
+        TabulatedFunction function = new ArrayTabulatedFunctionFactory()
+                .createFromUnsorted(xValues, yValues, DuplicatePolicy.LAST_WINS);
+        int index = 0;
+        for (int x = 0; x < count / 2; x++) {
+            if (present[x]) {
+                assertEquals(x, function.getX(index), 0.0);
+                assertEquals(lastY[x], function.getY(index), 0.0);
+                index++;
+            }
+        }
+        assertEquals(index, function.getCount());
+    }
+
+
+    @Test
+    public void testCreateFromUnsortedRunsAreAnchoredAndFinite() {
+        TabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+        TabulatedFunction function = factory.createFromUnsorted(
+                new double[]{1.8e-12, 0.0, 0.9e-12, 5.0}, new double[]{3.0, 1.0, 2.0, 9.0}, DuplicatePolicy.AVERAGE);
+        assertEquals(3, function.getCount()); // 1.8e-12 дальше 1e-12 от начала серии 0.0
+        assertEquals(0.0, function.getX(0), 0.0);
+        assertEquals(1.5, function.getY(0), 1e-15);
+        assertEquals(1.8e-12, function.getX(1), 0.0);
+        assertEquals(3.0, function.getY(1), 0.0);
+
+        assertThrows(IllegalArgumentException.class, () -> factory.createFromUnsorted(
+                new double[]{1.0, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY}, new double[]{1, 2, 3}, DuplicatePolicy.MAX));
+        assertThrows(IllegalArgumentException.class, () -> factory.createFromUnsorted(
+                new double[]{Double.NEGATIVE_INFINITY, 1.0}, new double[]{1, 2}, DuplicatePolicy.MAX));
+        assertThrows(IllegalArgumentException.class, () -> factory.createFromUnsorted(
+                new double[]{1.0, 2.0}, new double[]{1.0}, DuplicatePolicy.MAX));
+    }
+
+
+    @Test
+    public void testCreateFromUnsortedAdoptsSortedArrays() {
+        double[] xValues = {3.0, 1.0, 2.0, 1.0, 3.0};
+        double[] yValues = {30.0, 10.0, 20.0, 12.0, 34.0};
+        TabulatedFunction function = new ArrayTabulatedFunctionFactory()
+                .createFromUnsorted(xValues, yValues, DuplicatePolicy.AVERAGE);
+        ArrayTabulatedFunction array = assertInstanceOf(ArrayTabulatedFunction.class, function);
+        assertEquals(3, array.getCount());
+        assertEquals(5, array.getCapacity()); // слитые точки остаются запасом ёмкости
+        assertEquals(11.0, array.getY(0), 1e-12);
+        assertEquals(32.0, array.getY(2), 1e-12);
+        assertEquals(26.0, array.apply(2.5), 1e-12);
+        array.insert(4.0, 40.0);
+        assertEquals(4, array.getCount());
+        assertEquals(5, array.getCapacity());
+    }
+
+    @Test
+    public void testCreateOwnedWithCount() {
+        double[] xValues = {0.0, 1.0, 2.0, -7.0};
+        double[] yValues = {0.0, 1.0, 4.0, 99.0};
+        TabulatedFunction array = new ArrayTabulatedFunctionFactory().createOwned(xValues, yValues, 3, true);
+        assertEquals(3, array.getCount());
+        assertTrue(((ArrayTabulatedFunction) array).isUniform()); // хвост за count не учитывается
+        TabulatedFunction list = new LinkedListTabulatedFunctionFactory().createOwned(xValues, yValues, 3, true);
+        assertEquals(3, list.getCount());
+        assertEquals(2.0, list.rightBound(), 0.0);
+        assertThrows(IllegalArgumentException.class,
+                () -> new ArrayTabulatedFunctionFactory().createOwned(xValues, yValues, 5, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ArrayTabulatedFunctionFactory().createOwned(xValues, yValues, 1, false));
+    }
+
+
+    @Test
+    public void testTabulateDegenerateIntervalMatchesConstructor() {
+        TabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+        MathFunction source = x -> x * x + 1;
+        ArrayTabulatedFunction expected = new ArrayTabulatedFunction(source, 2.0, 2.0, 5);
+        TabulatedFunction sequential = factory.tabulate(source, 2.0, 2.0, 5);
+        TabulatedFunction parallel = factory.tabulate(source, 2.0, 2.0, 5, ForkJoinPool.commonPool());
+        for (TabulatedFunction actual : new TabulatedFunction[]{sequential, parallel}) {
+            assertEquals(expected.getCount(), actual.getCount());
+            for (int i = 0; i < expected.getCount(); i++) {
+                assertEquals(expected.getX(i), actual.getX(i), 0.0);
+                assertEquals(expected.getY(i), actual.getY(i), 0.0);
+            }
+            assertEquals(expected.apply(2.0), actual.apply(2.0), 0.0);
+        }
+    }
+}
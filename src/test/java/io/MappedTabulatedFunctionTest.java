@@ -0,0 +1,69 @@
+package io;
+
+import functions.ArrayTabulatedFunction;
+import functions.SqrFunction;
+import functions.TabulatedFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class MappedTabulatedFunctionTest {
+    @TempDir
+    Path tempDir;
+
+    private Path write(TabulatedFunction function) throws IOException {
+        Path file = tempDir.resolve("function.bin");
+        try (OutputStream fileStream = Files.newOutputStream(file);
+             BufferedOutputStream stream = new BufferedOutputStream(fileStream)) {
+            FunctionsIO.writeTabulatedFunction(stream, function);
+        }
+        return file;
+    }
+
+    @Test
+    public void testMappedFunctionMatchesWrittenFunction() throws IOException {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(new SqrFunction(), -2.0, 3.0, 21);
+        Path file = write(source);
+
+        try (MappedTabulatedFunction function = MappedTabulatedFunction.open(file)) {
+            assertEquals(source.getCount(), function.getCount());
+            for (int i = 0; i < source.getCount(); i++) {
+                assertEquals(source.getX(i), function.getX(i), 0.0);
+                assertEquals(source.getY(i), function.getY(i), 0.0);
+            }
+            for (double x = -3.0; x <= 4.0; x += 0.29) {
+                assertEquals(source.apply(x), function.apply(x), 0.0);
+            }
+            assertEquals(source.indexOfX(0.5), function.indexOfX(0.5));
+            assertEquals(-1, function.indexOfX(0.6));
+            assertEquals(-2.0, function.leftBound(), 0.0);
+            assertEquals(3.0, function.rightBound(), 0.0);
+        }
+    }
+
+    @Test
+    public void testMappedFunctionIsReadOnly() throws IOException {
+        Path file = write(new ArrayTabulatedFunction(new double[]{1.0, 2.0}, new double[]{1.0, 4.0}));
+
+        try (MappedTabulatedFunction function = MappedTabulatedFunction.open(file)) {
+            assertThrows(UnsupportedOperationException.class, () -> function.setY(0, 5.0));
+            assertThrows(IllegalArgumentException.class, () -> function.getY(2));
+        }
+    }
+
+    @Test
+    public void testCorruptedFileIsRejected() throws IOException {
+        Path empty = tempDir.resolve("empty.bin");
+        Files.write(empty, new byte[2]);
+        Path truncated = tempDir.resolve("truncated.bin");
+        Files.write(truncated, new byte[]{0, 0, 0, 5, 0, 0, 0, 0});
+
+        assertThrows(IOException.class, () -> MappedTabulatedFunction.open(empty));
+        assertThrows(IOException.class, () -> MappedTabulatedFunction.open(truncated));
+    }
+}
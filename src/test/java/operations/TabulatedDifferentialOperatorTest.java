@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import functions.factory.ArrayTabulatedFunctionFactory;
 import functions.factory.LinkedListTabulatedFunctionFactory;
 import concurrent.SynchronizedTabulatedFunction;
+import exceptions.ArrayIsNotSortedException;
 
 public class TabulatedDifferentialOperatorTest {
 
@@ -234,4 +235,14 @@ public class TabulatedDifferentialOperatorTest {
         assertInstanceOf(LinkedListTabulatedFunction.class, derivedSync);
         assertEquals(3, derivedSync.getCount());
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void testDeriveDegenerateTableIsRejected() {
+        ArrayTabulatedFunction degenerate = new ArrayTabulatedFunction(x -> x * x, 2.0, 2.0, 4);
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new TabulatedDifferentialOperator(new ArrayTabulatedFunctionFactory()).derive(degenerate));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new TabulatedDifferentialOperator(new LinkedListTabulatedFunctionFactory()).derive(degenerate));
+    }
+}
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import functions.factory.ArrayTabulatedFunctionFactory;
 import functions.factory.LinkedListTabulatedFunctionFactory;
 import exceptions.InconsistentFunctionsException;
+import exceptions.ArrayIsNotSortedException;
 
 public class TabulatedFunctionOperationServiceTest {
 
@@ -351,4 +352,13 @@ public class TabulatedFunctionOperationServiceTest {
         TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
         assertThrows(InconsistentFunctionsException.class, () -> service.divide(function1, function2));
     }
+
+
+    @Test
+    public void testOperationOnDegenerateTablesIsRejected() {
+        ArrayTabulatedFunction a = new ArrayTabulatedFunction(x -> x, 1.0, 1.0, 3);
+        ArrayTabulatedFunction b = new ArrayTabulatedFunction(x -> 2 * x, 1.0, 1.0, 3);
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService(new ArrayTabulatedFunctionFactory());
+        assertThrows(ArrayIsNotSortedException.class, () -> service.add(a, b));
+    }
 }
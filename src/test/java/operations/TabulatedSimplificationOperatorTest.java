@@ -0,0 +1,79 @@
+package operations;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class TabulatedSimplificationOperatorTest {
+
+    private static void assertWithinError(TabulatedFunction original, TabulatedFunction simplified, double maxError) {
+        for (int i = 0; i < original.getCount(); i++) {
+            assertEquals(original.getY(i), simplified.apply(original.getX(i)), maxError + 1e-12);
+        }
+    }
+
+    @Test
+    public void testDefaultFactory() {
+        TabulatedSimplificationOperator operator = new TabulatedSimplificationOperator();
+        assertInstanceOf(ArrayTabulatedFunctionFactory.class, operator.getFactory());
+        operator.setFactory(new LinkedListTabulatedFunctionFactory());
+        assertInstanceOf(LinkedListTabulatedFunctionFactory.class, operator.getFactory());
+    }
+
+    @Test
+    public void testCollinearPointsCollapseToEnds() {
+        TabulatedFunction line = new ArrayTabulatedFunction(x -> 3 * x + 1, -5, 5, 1001);
+        Simplification result = new TabulatedSimplificationOperator(new LinkedListTabulatedFunctionFactory())
+                .simplify(line, 1e-9);
+
+        assertInstanceOf(LinkedListTabulatedFunction.class, result.getFunction());
+        assertEquals(2, result.getSimplifiedCount());
+        assertEquals(1001, result.getOriginalCount());
+        assertEquals(500.5, result.getCompressionRatio(), 1e-12);
+        assertEquals(-14.0, result.getFunction().getY(0), 1e-12);
+        assertEquals(16.0, result.getFunction().getY(1), 1e-12);
+    }
+
+    @Test
+    public void testErrorBoundOnCurve() {
+        TabulatedFunction sine = new ArrayTabulatedFunction(Math::sin, 0, 20, 200001);
+        Simplification result = new TabulatedSimplificationOperator().simplify(sine, 1e-4);
+
+        assertTrue(result.getCompressionRatio() > 10);
+        assertEquals(0.0, result.getFunction().leftBound(), 0.0);
+        assertEquals(20.0, result.getFunction().rightBound(), 0.0);
+        assertWithinError(sine, result.getFunction(), 1e-4);
+    }
+
+    @Test
+    public void testParallelVariantKeepsErrorBound() {
+        TabulatedFunction sine = new ArrayTabulatedFunction(Math::sin, 0, 20, 200001);
+        TabulatedSimplificationOperator operator = new TabulatedSimplificationOperator();
+        Simplification sequential = operator.simplify(sine, 1e-4);
+        Simplification parallel = operator.simplifyParallel(sine, 1e-4, ForkJoinPool.commonPool());
+
+        assertWithinError(sine, parallel.getFunction(), 1e-4);
+        assertTrue(parallel.getSimplifiedCount() >= sequential.getSimplifiedCount());
+        assertTrue(parallel.getSimplifiedCount() <= sequential.getSimplifiedCount() + 4); // лишние только границы блоков
+    }
+
+    @Test
+    public void testSmallTablesAndInvalidError() {
+        TabulatedFunction pair = new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{5, 7});
+        TabulatedSimplificationOperator operator = new TabulatedSimplificationOperator();
+        assertEquals(2, operator.simplify(pair, 0.1).getSimplifiedCount());
+        assertEquals(2, operator.simplifyParallel(pair, 0.1, ForkJoinPool.commonPool()).getSimplifiedCount());
+
+        TabulatedFunction zigzag = new ArrayTabulatedFunction(new double[]{0, 1, 2, 3}, new double[]{0, 1, 0, 1});
+        assertEquals(4, operator.simplify(zigzag, 0.4).getSimplifiedCount());
+        assertEquals(2, operator.simplify(zigzag, 1.0).getSimplifiedCount());
+
+        assertThrows(IllegalArgumentException.class, () -> operator.simplify(pair, -1));
+        assertThrows(IllegalArgumentException.class, () -> operator.simplify(pair, Double.NaN));
+    }
+}